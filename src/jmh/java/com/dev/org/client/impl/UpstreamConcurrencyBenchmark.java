@@ -0,0 +1,229 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.HttpClientProperties;
+import com.dev.org.config.HttpTransportFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Completes {@code inFlight} concurrent upstream calls against a local stub that answers after
+ * {@code upstreamDelayMillis}, through the blocking path and through the non-blocking one. Both go
+ * through {@link AbstractServiceClient} without coalescing, so every call reaches the stub.
+ *
+ * <p>The blocking path runs once on a 200-thread pool, Tomcat's default, and once on a virtual
+ * thread per call. One operation is the whole batch: divide {@code inFlight} by the score for
+ * calls per millisecond. {@code gc.alloc.rate.norm} from the gc profiler gives bytes allocated per
+ * batch; platform thread stacks are not heap and come on top of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UpstreamConcurrencyBenchmark {
+
+    private static final String ASTROS_URI = "/astros.json";
+    private static final int PLATFORM_THREADS = 200;
+    private static final byte[] ASTROS_JSON =
+            """
+            {"message": "success", "number": 1, "people": [{"name": "Jane", "craft": "ISS"}]}
+            """
+                    .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"10000"})
+    private int inFlight;
+
+    @Param({"50"})
+    private int upstreamDelayMillis;
+
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private HttpTransportFactory transportFactory;
+    private ExecutorService platformThreads;
+    private BenchmarkClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server =
+                HttpServer.create(
+                        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), inFlight);
+        server.setExecutor(serverExecutor);
+        server.createContext(ASTROS_URI, this::handleAstros);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HttpClientProperties.Client settings = settings(baseUrl, inFlight);
+        transportFactory = new HttpTransportFactory(meterRegistry);
+        RestClient restClient =
+                RestClient.builder()
+                        .baseUrl(baseUrl)
+                        .requestFactory(transportFactory.create("bench", settings.transport()))
+                        .build();
+        AsyncJsonClient jsonClient =
+                new AsyncJsonClient(
+                        transportFactory.createAsync("bench", settings.transport()),
+                        baseUrl,
+                        settings.transport().readTimeout(),
+                        new ObjectMapper());
+        client =
+                new BenchmarkClient(
+                        restClient,
+                        jsonClient,
+                        settings,
+                        new ResilienceRegistry(meterRegistry),
+                        meterRegistry);
+        platformThreads = Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformThreads.close();
+        transportFactory.destroy();
+        server.stop(0);
+        serverExecutor.close();
+    }
+
+    @Benchmark
+    public int blockingPlatformThreads() throws Exception {
+        return awaitAll(platformThreads);
+    }
+
+    @Benchmark
+    public int blockingVirtualThreads() throws Exception {
+        try (var virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            return awaitAll(virtualThreads);
+        }
+    }
+
+    @Benchmark
+    public int async() {
+        List<CompletableFuture<AstronautsResponse>> calls = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            calls.add(client.async());
+        }
+        int people = 0;
+        for (CompletableFuture<AstronautsResponse> call : calls) {
+            people += call.join().getNumber();
+        }
+        return people;
+    }
+
+    private int awaitAll(ExecutorService executor) throws Exception {
+        List<Future<AstronautsResponse>> calls = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            calls.add(executor.submit(client::blocking));
+        }
+        int people = 0;
+        for (Future<AstronautsResponse> call : calls) {
+            people += call.get().getNumber();
+        }
+        return people;
+    }
+
+    private void handleAstros(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(upstreamDelayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, ASTROS_JSON.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(ASTROS_JSON);
+        }
+    }
+
+    /** Pool and timeouts sized for the batch; no bulkhead, breaker, hedging or retries. */
+    private static HttpClientProperties.Client settings(String baseUrl, int connections) {
+        return new HttpClientProperties.Client(
+                baseUrl,
+                new HttpClientProperties.Transport(
+                        connections,
+                        connections,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(60),
+                        Duration.ofSeconds(60),
+                        Duration.ofSeconds(30),
+                        Duration.ofMinutes(5),
+                        false),
+                new HttpClientProperties.ResponseLogging(
+                        HttpClientProperties.ResponseLogging.Mode.OFF, 0.0),
+                new HttpClientProperties.CircuitBreaker(
+                        false, 50, 20, 50, Duration.ofSeconds(30), 5),
+                new HttpClientProperties.Bulkhead(false, connections, Duration.ZERO),
+                new HttpClientProperties.Retry(
+                        1,
+                        Duration.ofMillis(100),
+                        Duration.ofSeconds(2),
+                        Set.of(),
+                        List.of(),
+                        0,
+                        0),
+                new HttpClientProperties.Hedging(
+                        false, 0.95, Duration.ofMillis(20), Duration.ofSeconds(1), 0, 0));
+    }
+
+    /** Exposes both execution paths of {@link AbstractServiceClient} without coalescing. */
+    static final class BenchmarkClient extends AbstractServiceClient {
+
+        private final RestClient restClient;
+        private final AsyncJsonClient jsonClient;
+
+        BenchmarkClient(
+                RestClient restClient,
+                AsyncJsonClient jsonClient,
+                HttpClientProperties.Client settings,
+                ResilienceRegistry resilienceRegistry,
+                MeterRegistry meterRegistry) {
+            super("bench", settings, resilienceRegistry, meterRegistry);
+            this.restClient = restClient;
+            this.jsonClient = jsonClient;
+        }
+
+        AstronautsResponse blocking() {
+            return executeRequest(
+                    () ->
+                            restClient
+                                    .get()
+                                    .uri(ASTROS_URI)
+                                    .retrieve()
+                                    .body(AstronautsResponse.class),
+                    Map.of());
+        }
+
+        CompletableFuture<AstronautsResponse> async() {
+            return executeAsync(
+                    () -> jsonClient.get(ASTROS_URI, AstronautsResponse.class), Map.of());
+        }
+    }
+}
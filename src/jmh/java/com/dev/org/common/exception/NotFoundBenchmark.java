@@ -0,0 +1,67 @@
+package com.dev.org.common.exception;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Raises and handles one {@code NotFound} per operation, as a crawler hitting unknown crafts
+ * does. The exception is thrown {@code stackDepth} frames below the handler; a request through
+ * Tomcat, the filter chain and Spring MVC is about 150 frames deep by the time a controller
+ * runs. With {@code stackless=false} the policy is configured to capture the trace, as every
+ * {@link ApplicationException} did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotFoundBenchmark {
+
+    private static final Set<String> NONE = Set.of();
+
+    @Param({"20", "150"})
+    private int stackDepth;
+
+    @Param({"true", "false"})
+    private boolean stackless;
+
+    @Setup
+    public void setUp() {
+        if (stackless) {
+            StackTracePolicy.reset();
+        } else {
+            StackTracePolicy.configure(NONE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    @Benchmark
+    public int notFound() {
+        try {
+            return lookup(stackDepth);
+        } catch (ApplicationException ex) {
+            // what the exception handler reads to build the 404
+            return ex.getApplicationError() instanceof ClientError.NotFound notFound
+                    ? notFound.identifier().length()
+                    : -1;
+        }
+    }
+
+    private static int lookup(int depth) {
+        if (depth > 0) {
+            return lookup(depth - 1) + 1;
+        }
+        return ApplicationExceptions.notFound("Craft", "Unknown");
+    }
+}
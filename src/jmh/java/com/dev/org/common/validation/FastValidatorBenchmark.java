@@ -0,0 +1,65 @@
+package com.dev.org.common.validation;
+
+import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.common.dto.HelloResponseFastValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Validates one {@link HelloResponse} per operation with Hibernate Validator and with the
+ * generated {@link HelloResponseFastValidator}. {@code blank} has both constrained fields blank:
+ * Hibernate Validator reports the two violations, the generated validator stops at the first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FastValidatorBenchmark {
+
+    @Param({"valid", "blank"})
+    private String input;
+
+    private ValidatorFactory validatorFactory;
+    private Validator hibernateValidator;
+    private FastValidator<HelloResponse> fastValidator;
+    private HelloResponse response;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        hibernateValidator = validatorFactory.getValidator();
+        fastValidator = HelloResponseFastValidator.INSTANCE;
+        response =
+                input.equals("valid")
+                        ? new HelloResponse("Hello, World!", "2026-10-15T00:00:00.000Z", "World")
+                        : new HelloResponse(" ", "", "World");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<HelloResponse>> hibernateValidator() {
+        return hibernateValidator.validate(response);
+    }
+
+    @Benchmark
+    public Map<String, String> fastValidator() {
+        return fastValidator.firstViolation(response);
+    }
+}
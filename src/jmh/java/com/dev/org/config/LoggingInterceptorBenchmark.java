@@ -0,0 +1,71 @@
+package com.dev.org.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+/**
+ * Compares the per-call cost of the original {@link LoggingInterceptor} with {@link
+ * SampledLoggingInterceptor}. Run with the gc profiler (the default in build.gradle) and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class LoggingInterceptorBenchmark {
+
+    @Param({"0", "16384"})
+    private int bodySize;
+
+    private byte[] body;
+    private MockClientHttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    private LoggingInterceptor current;
+    private SampledLoggingInterceptor sampledDefault;
+    private SampledLoggingInterceptor sampledAlways;
+
+    @Setup
+    public void setUp() {
+        body = new byte[bodySize];
+        Arrays.fill(body, (byte) 'a');
+        request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://localhost/astros"));
+        ClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        execution = (req, bytes) -> response;
+
+        current = new LoggingInterceptor();
+        sampledDefault = new SampledLoggingInterceptor(new HttpClientProperties.Logging(0.01, 512));
+        sampledAlways = new SampledLoggingInterceptor(new HttpClientProperties.Logging(1.0, 512));
+    }
+
+    @Benchmark
+    public ClientHttpResponse currentInterceptor() throws IOException {
+        return current.intercept(request, body, execution);
+    }
+
+    @Benchmark
+    public ClientHttpResponse sampledOnePercent() throws IOException {
+        return sampledDefault.intercept(request, body, execution);
+    }
+
+    @Benchmark
+    public ClientHttpResponse sampledEveryRequest() throws IOException {
+        return sampledAlways.intercept(request, body, execution);
+    }
+}
@@ -0,0 +1,104 @@
+package com.dev.org.interfaces.advice;
+
+import com.dev.org.common.exception.ApplicationError;
+import com.dev.org.common.exception.ClientError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Renders one 404 or 400 problem response the way the handler did before (a {@link ProblemDetail}
+ * built with {@code String.format} and serialized through the property map) and the way it does
+ * now ({@link ProblemRenderer}). Both write into a fresh mock response; compare throughput and
+ * {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProblemRenderingBenchmark {
+
+    @Param({"404", "400"})
+    private int status;
+
+    private ObjectMapper objectMapper;
+    private ProblemRenderer renderer;
+    private MockHttpServletRequest request;
+    private ApplicationError error;
+
+    @Setup
+    public void setUp() {
+        objectMapper =
+                new ObjectMapper().addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+        renderer = new ProblemRenderer(objectMapper);
+        request = new MockHttpServletRequest("GET", "/api/astro/crafts/Unknown");
+        error =
+                status == 404
+                        ? new ClientError.NotFound("Craft", "Unknown")
+                        : new ClientError.BadRequest("size must be between 1 and 10000");
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Benchmark
+    public byte[] baseline() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ProblemDetail problemDetail = handlerProblemDetail();
+        // set by Spring when a handler returns a ProblemDetail without one
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+        response.setStatus(problemDetail.getStatus());
+        response.setContentType("application/problem+json");
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+        return response.getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] renderer() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        renderer.render(error, request, response);
+        return response.getContentAsByteArray();
+    }
+
+    /** The ProblemDetail the exception handler built before the renderer existed. */
+    private ProblemDetail handlerProblemDetail() {
+        if (error instanceof ClientError.NotFound e) {
+            var detail =
+                    problemDetail(
+                            HttpStatus.NOT_FOUND,
+                            String.format(
+                                    "%s with identifier '%s' not found",
+                                    e.resourceType(), e.identifier()));
+            detail.setProperty("resourceType", e.resourceType());
+            detail.setProperty("identifier", e.identifier());
+            return detail;
+        }
+        if (error instanceof ClientError.BadRequest e) {
+            return problemDetail(HttpStatus.BAD_REQUEST, e.message());
+        }
+        throw new IllegalStateException("unexpected error " + error);
+    }
+
+    private ProblemDetail problemDetail(HttpStatus status, String detail) {
+        var problemDetail = ProblemDetail.forStatus(status);
+        problemDetail.setDetail(detail);
+        String traceId = MDC.get("traceId");
+        if (traceId != null && !traceId.isEmpty()) {
+            problemDetail.setProperty("traceId", traceId);
+        }
+        problemDetail.setProperty("path", request.getRequestURI());
+        return problemDetail;
+    }
+}
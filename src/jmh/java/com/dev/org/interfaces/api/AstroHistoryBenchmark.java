@@ -0,0 +1,124 @@
+package com.dev.org.interfaces.api;
+
+import com.dev.org.Application;
+import com.dev.org.common.dto.HistoryCursor;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@code GET /api/astro/history} over 10M snapshots in the local profile's in-memory H2, against
+ * the same page read with OFFSET. Snapshot {@code i} is fetched {@code i} seconds after the epoch,
+ * so the cursor for any depth can be computed instead of paged to.
+ *
+ * <p>Keyset pages should cost the same at every {@code depth} while OFFSET grows linearly with it.
+ * With {@code pageSize=10000}, {@code gc.alloc.rate.norm} of the endpoint shows that rows are
+ * streamed rather than collected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AstroHistoryBenchmark {
+
+    private static final long ROWS = 10_000_000;
+
+    @Param({"0", "5000000", "9990000"})
+    private long depth;
+
+    @Param({"100", "10000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient httpClient;
+    private HttpRequest keysetRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context =
+                new SpringApplicationBuilder(Application.class)
+                        .profiles("local")
+                        .properties(
+                                "server.port=0",
+                                "app.ingestion.astronauts.enabled=false",
+                                "logging.level.root=WARN",
+                                "logging.level.com.dev.org=WARN",
+                                "logging.level.org.hibernate.SQL=WARN")
+                        .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(
+                """
+                INSERT INTO astronaut_snapshot (id, fetched_at, number_of_people)
+                SELECT X, DATEADD(SECOND, X, TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00Z'), 7
+                FROM SYSTEM_RANGE(1, ?)
+                """,
+                ROWS);
+
+        // newest first: the row at this depth is the one with id ROWS - depth
+        long lastSeenId = ROWS - depth + 1;
+        String cursor =
+                depth == 0
+                        ? ""
+                        : "&cursor="
+                                + new HistoryCursor(Instant.ofEpochSecond(lastSeenId), lastSeenId)
+                                        .encode();
+        String port = context.getEnvironment().getRequiredProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        keysetRequest =
+                HttpRequest.newBuilder(
+                                URI.create(
+                                        "http://127.0.0.1:"
+                                                + port
+                                                + "/api/astro/history?size="
+                                                + pageSize
+                                                + cursor))
+                        .GET()
+                        .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] keysetEndpoint() throws IOException, InterruptedException {
+        return httpClient.send(keysetRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public void offsetQuery(Blackhole blackhole) {
+        jdbcTemplate.query(
+                """
+                SELECT id, fetched_at, number_of_people FROM astronaut_snapshot
+                ORDER BY fetched_at DESC, id DESC
+                OFFSET ? ROWS FETCH NEXT ? ROWS ONLY
+                """,
+                row -> {
+                    blackhole.consume(row.getLong(1));
+                },
+                depth,
+                pageSize);
+    }
+}
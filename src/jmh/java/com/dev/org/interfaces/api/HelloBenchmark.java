@@ -0,0 +1,59 @@
+package com.dev.org.interfaces.api;
+
+import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.service.GreetingService;
+import com.dev.org.service.impl.GreetingServiceImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Builds and serializes one greeting the way {@code sayHello} did before ({@code String.format},
+ * {@code Instant.now().toString()}, bean serializer) and the way it does now ({@link
+ * GreetingService}, {@code HelloResponseSerializer}). Compare {@code gc.alloc.rate.norm} for bytes
+ * allocated per greeting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HelloBenchmark {
+
+    private static final String NAME = "World";
+
+    private ObjectMapper objectMapper;
+    private GreetingService greetingService;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        greetingService = new GreetingServiceImpl();
+    }
+
+    @Benchmark
+    public byte[] baseline() throws JsonProcessingException {
+        String message = String.format("Hello, %s!", NAME);
+        String timestamp = Instant.now().toString();
+        return objectMapper.writeValueAsBytes(new BaselineHelloResponse(message, timestamp, NAME));
+    }
+
+    @Benchmark
+    public byte[] optimized() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(greetingService.greet(NAME));
+    }
+
+    @Benchmark
+    public HelloResponse greetOnly() {
+        return greetingService.greet(NAME);
+    }
+
+    /** {@link HelloResponse} without the custom serializer. */
+    public record BaselineHelloResponse(String message, String timestamp, String name) {}
+}
@@ -0,0 +1,23 @@
+package com.dev.org.support;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * Appender that renders each event's message and throws it away, so benchmarks pay for message
+ * formatting without being dominated by console I/O.
+ */
+public class DiscardingAppender extends AppenderBase<ILoggingEvent> {
+
+    private volatile int lastLength;
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        lastLength = event.getFormattedMessage().length();
+    }
+
+    /** Length of the last rendered message; kept so rendering cannot be optimised away. */
+    public int getLastLength() {
+        return lastLength;
+    }
+}
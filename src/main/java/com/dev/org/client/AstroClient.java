@@ -1,7 +1,32 @@
 package com.dev.org.client;
 
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.Astronaut;
 import com.dev.org.common.response.astro.AstronautsResponse;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface AstroClient {
+
+    /** Data set name announced in {@code DataRefreshedEvent} when the people in space change. */
+    String DATA_SET = "astronauts";
+
     AstronautsResponse getAstronauts();
+
+    /**
+     * Returns the people currently in space with an entity tag that changes whenever they do.
+     * Implementations that do not track versions return a null tag.
+     */
+    default Versioned<AstronautsResponse> getVersionedAstronauts() {
+        return new Versioned<>(getAstronauts(), null);
+    }
+
+    /**
+     * Streams the people currently in space. Implementations backed by the upstream parse them
+     * lazily so the full list is never held in memory; the stream must be closed.
+     */
+    default Stream<Astronaut> streamAstronauts() {
+        List<Astronaut> people = getAstronauts().getPeople();
+        return people == null ? Stream.empty() : people.stream();
+    }
 }
@@ -0,0 +1,19 @@
+package com.dev.org.client;
+
+import com.dev.org.common.response.astro.AstronautsResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AstroClient}. No thread waits while a call is in flight, so a
+ * controller can fan out to several upstream services and combine the futures.
+ */
+public interface AsyncAstroClient {
+
+    /**
+     * Fetches the people currently in space.
+     *
+     * @return a future completed with the response, or exceptionally with an {@link
+     *     com.dev.org.common.exception.ApplicationException}
+     */
+    CompletableFuture<AstronautsResponse> getAstronautsAsync();
+}
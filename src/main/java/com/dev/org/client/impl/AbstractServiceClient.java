@@ -1,24 +1,272 @@
 package com.dev.org.client.impl;
 
 import com.dev.org.common.exception.ApplicationExceptions;
+import com.dev.org.config.HttpClientProperties;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestClient;
 
 abstract class AbstractServiceClient {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractServiceClient.class);
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS =
+            Set.of(
+                    HttpMethod.GET,
+                    HttpMethod.HEAD,
+                    HttpMethod.OPTIONS,
+                    HttpMethod.PUT,
+                    HttpMethod.DELETE);
+    private static final ResponseErrorHandler STREAM_ERROR_HANDLER =
+            new DefaultResponseErrorHandler();
 
-    protected abstract String getServiceName();
+    private final String serviceName;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final Counter coalescedCalls;
+    private final ResponseLogger responseLogger;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryPolicy retryPolicy;
+    private final TokenBucket retryBudget;
+    private final Counter retries;
+    private final Counter retryBudgetExhausted;
+    private final Hedger hedger;
 
+    protected AbstractServiceClient(
+            String serviceName,
+            HttpClientProperties.Client settings,
+            ResilienceRegistry resilienceRegistry,
+            MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.circuitBreaker =
+                resilienceRegistry.circuitBreaker(serviceName, settings.circuitBreaker());
+        this.bulkhead = resilienceRegistry.bulkhead(serviceName, settings.bulkhead());
+        this.responseLogger =
+                new ResponseLogger(serviceName, settings.responseLogging(), meterRegistry);
+        this.hedger = resilienceRegistry.hedger(serviceName, settings.hedging());
+        this.retryPolicy = new RetryPolicy(settings.retry());
+        this.retryBudget =
+                new TokenBucket(
+                        settings.retry().budgetPercent() / 100.0, settings.retry().budgetBurst());
+        this.retries =
+                Counter.builder("service.client.retries")
+                        .description("Upstream calls retried after a transient failure")
+                        .tag("service", serviceName)
+                        .register(meterRegistry);
+        this.retryBudgetExhausted =
+                Counter.builder("service.client.retry.budget.exhausted")
+                        .description("Retries skipped because the retry budget was spent")
+                        .tag("service", serviceName)
+                        .register(meterRegistry);
+        this.coalescedCalls =
+                Counter.builder("service.client.coalesced")
+                        .description("Callers that shared an identical in-flight upstream call")
+                        .tag("service", serviceName)
+                        .register(meterRegistry);
+    }
+
+    protected String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Returns the number of items in a response, recorded by the response size histogram.
+     * Collections, maps and arrays report their length; anything else counts as one item.
+     * Subclasses override this for wrapper types such as a response holding a list.
+     */
+    protected int responseSize(Object response) {
+        if (response == null) {
+            return 0;
+        }
+        if (response instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (response instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return response.getClass().isArray() ? Array.getLength(response) : 1;
+    }
+
+    /**
+     * Executes a request, sharing one upstream call and one deserialized result between all
+     * concurrent callers with the same {@link RequestKey}. Error mapping still happens per caller.
+     * Idempotent requests are hedged and their transient failures retried according to the
+     * client's policy.
+     */
+    protected <T> T executeRequest(
+            RequestKey key, Supplier<T> supplier, Map<Integer, Supplier<T>> errorMap) {
+        boolean idempotent = IDEMPOTENT_METHODS.contains(key.method());
+        return mapErrors(
+                () ->
+                        singleFlight.execute(
+                                key,
+                                () -> callUpstream(supplier, idempotent),
+                                coalescedCalls::increment),
+                errorMap);
+    }
+
+    /**
+     * Executes a request that is not coalesced. The request method is unknown here, so it is
+     * treated as non-idempotent and never hedged or retried.
+     */
     protected <T> T executeRequest(Supplier<T> supplier, Map<Integer, Supplier<T>> errorMap) {
+        return mapErrors(() -> callUpstream(supplier, false), errorMap);
+    }
+
+    /**
+     * Executes a non-blocking request. The call passes the same bulkhead and circuit breaker as
+     * blocking calls, holding its bulkhead slot until the future completes, and failures are
+     * mapped as in {@link #executeRequest(Supplier, Map)}. No thread is parked while the call is in
+     * flight. Async calls are not coalesced, hedged or retried.
+     *
+     * @param call starts the upstream call; must not block
+     * @return a future completed with the response, or exceptionally with an {@link
+     *     com.dev.org.common.exception.ApplicationException} for upstream failures
+     */
+    protected <T> CompletableFuture<T> executeAsync(
+            Supplier<CompletableFuture<T>> call, Map<Integer, Supplier<T>> errorMap) {
+        CompletableFuture<T> upstream;
         try {
-            var t = supplier.get();
-            log.info("response: {}", t);
-            return t;
+            upstream = callUpstreamAsync(call);
+        } catch (RuntimeException ex) {
+            upstream = CompletableFuture.failedFuture(ex);
+        }
+        return upstream.handle(
+                (response, failure) ->
+                        failure == null ? response : mapErrors(() -> rethrow(failure), errorMap));
+    }
+
+    private <T> CompletableFuture<T> callUpstreamAsync(Supplier<CompletableFuture<T>> call) {
+        if (!bulkhead.tryAcquire()) {
+            return ApplicationExceptions.remoteServiceError(
+                    serviceName, "too many concurrent requests");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return ApplicationExceptions.remoteServiceError(
+                        serviceName, "circuit breaker is open");
+            }
+            long start = System.nanoTime();
+            return call.get()
+                    .whenComplete(
+                            (response, failure) -> {
+                                bulkhead.release();
+                                if (failure == null) {
+                                    circuitBreaker.onSuccess();
+                                    responseLogger.record(
+                                            response,
+                                            responseSize(response),
+                                            System.nanoTime() - start);
+                                } else {
+                                    onAttemptFailure(unwrap(failure));
+                                }
+                            });
+        } catch (RuntimeException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Executes a request and streams the elements of the JSON array at {@code arrayField} of the
+     * response, parsing each element only when the stream asks for it. A large upstream list can
+     * thus be filtered and forwarded without ever holding all of its elements on the heap.
+     *
+     * <p>The returned stream holds the upstream connection and a bulkhead slot until it is closed,
+     * so callers must close it, typically with try-with-resources. Streamed requests are neither
+     * coalesced, hedged nor retried: the payload cannot be shared or replayed once consumed. Error
+     * statuses are mapped as in {@link #executeRequest(Supplier, Map)}; an I/O error while
+     * consuming the stream surfaces as {@link java.io.UncheckedIOException}.
+     *
+     * @param request the request to execute, not yet retrieved
+     * @param arrayField the field of the root object holding the array, or null for a root array
+     * @param elementReader reader for a single array element
+     */
+    protected <T> Stream<T> streamRequest(
+            RestClient.RequestHeadersSpec<?> request,
+            String arrayField,
+            ObjectReader elementReader,
+            Map<Integer, Supplier<Stream<T>>> errorMap) {
+        return mapErrors(() -> openStream(request, arrayField, elementReader), errorMap);
+    }
+
+    private <T> Stream<T> openStream(
+            RestClient.RequestHeadersSpec<?> request,
+            String arrayField,
+            ObjectReader elementReader) {
+        if (!bulkhead.tryAcquire()) {
+            return ApplicationExceptions.remoteServiceError(
+                    serviceName, "too many concurrent requests");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return ApplicationExceptions.remoteServiceError(
+                        serviceName, "circuit breaker is open");
+            }
+            Stream<T> stream;
+            try {
+                stream =
+                        request.exchange(
+                                (clientRequest, response) ->
+                                        readArray(
+                                                clientRequest, response, arrayField, elementReader),
+                                false);
+            } catch (RuntimeException ex) {
+                onAttemptFailure(ex);
+                throw ex;
+            }
+            if (stream == null) {
+                throw new IllegalStateException("exchange returned no stream");
+            }
+            circuitBreaker.onSuccess();
+            return stream.onClose(bulkhead::release);
+        } catch (RuntimeException ex) {
+            bulkhead.release();
+            throw ex;
+        }
+    }
+
+    private static <T> Stream<T> readArray(
+            HttpRequest request,
+            ClientHttpResponse response,
+            String arrayField,
+            ObjectReader elementReader)
+            throws IOException {
+        try {
+            if (response.getStatusCode().isError()) {
+                STREAM_ERROR_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+            }
+            return JsonArrayStream.<T>of(response.getBody(), arrayField, elementReader)
+                    .onClose(response::close);
+        } catch (IOException | RuntimeException ex) {
+            response.close();
+            throw ex;
+        }
+    }
+
+    private <T> T mapErrors(Supplier<T> call, Map<Integer, Supplier<T>> errorMap) {
+        try {
+            return call.get();
         } catch (HttpStatusCodeException ex) {
             log.error("error response from {}", this.getServiceName(), ex);
             return Optional.ofNullable(errorMap.get(ex.getStatusCode().value()))
@@ -27,6 +275,110 @@ abstract class AbstractServiceClient {
                             () ->
                                     ApplicationExceptions.remoteServiceError(
                                             this.getServiceName(), ex.getMessage()));
+        } catch (ResourceAccessException ex) {
+            log.error("I/O error calling {}", this.getServiceName(), ex);
+            return ApplicationExceptions.remoteServiceError(this.getServiceName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Performs an upstream call behind the bulkhead, retrying transient failures. The call holds
+     * one bulkhead slot across all of its attempts, including hedges.
+     */
+    private <T> T callUpstream(Supplier<T> supplier, boolean idempotent) {
+        if (!bulkhead.tryAcquire()) {
+            return ApplicationExceptions.remoteServiceError(
+                    serviceName, "too many concurrent requests");
+        }
+        try {
+            retryBudget.onRequest();
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return attemptOnce(supplier, idempotent);
+                } catch (RuntimeException ex) {
+                    if (!idempotent || !shouldRetry(ex, attempt)) {
+                        throw ex;
+                    }
+                }
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Decides whether to retry after a failed attempt and, if so, sleeps for the backoff. Sleeping
+     * is cheap here because service calls run on virtual threads.
+     */
+    private boolean shouldRetry(RuntimeException failure, int attempt) {
+        if (attempt >= retryPolicy.maxAttempts() || !retryPolicy.isRetryable(failure)) {
+            return false;
+        }
+        if (!retryBudget.tryAcquire()) {
+            retryBudgetExhausted.increment();
+            return false;
+        }
+        retries.increment();
+        long backoffNanos = retryPolicy.backoffNanos(attempt);
+        log.warn(
+                "attempt {} to {} failed, retrying in {} ms: {}",
+                attempt,
+                serviceName,
+                TimeUnit.NANOSECONDS.toMillis(backoffNanos),
+                failure.getMessage());
+        try {
+            TimeUnit.NANOSECONDS.sleep(backoffNanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Performs a single, possibly hedged, attempt behind the circuit breaker. A rejected attempt
+     * fails immediately with a remote service error instead of waiting on the upstream.
+     */
+    private <T> T attemptOnce(Supplier<T> supplier, boolean idempotent) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return ApplicationExceptions.remoteServiceError(serviceName, "circuit breaker is open");
+        }
+        long start = System.nanoTime();
+        try {
+            var t = idempotent ? hedger.call(supplier) : supplier.get();
+            circuitBreaker.onSuccess();
+            responseLogger.record(t, responseSize(t), System.nanoTime() - start);
+            return t;
+        } catch (RuntimeException ex) {
+            onAttemptFailure(ex);
+            throw ex;
+        }
+    }
+
+    private void onAttemptFailure(Throwable failure) {
+        // a 4xx means the upstream is up and answered; only 5xx count against it
+        if (failure instanceof HttpStatusCodeException status
+                && !status.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+    }
+
+    private static <T> T rethrow(Throwable failure) {
+        Throwable cause = unwrap(failure);
+        if (cause instanceof RuntimeException ex) {
+            throw ex;
+        }
+        if (cause instanceof Error error) {
+            throw error;
         }
+        throw new CompletionException(cause);
     }
 }
@@ -1,34 +1,120 @@
 package com.dev.org.client.impl;
 
 import com.dev.org.client.AstroClient;
+import com.dev.org.common.response.astro.Astronaut;
 import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.HttpClientProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collections;
+import java.util.stream.Stream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClient;
 
 public class AstroClientImpl extends AbstractServiceClient implements AstroClient {
 
+    private static final String ASTROS_URI = "/astros.json";
+    private static final RequestKey ASTROS_REQUEST = RequestKey.of(HttpMethod.GET, ASTROS_URI);
+
+    private static final String PEOPLE_FIELD = "people";
+
     private final RestClient restClient;
+    private final ObjectReader astronautReader;
+    private final Counter notModified;
 
-    public AstroClientImpl(RestClient restClient) {
+    // last full response and its validators, revalidated instead of refetched
+    private volatile Validated lastResponse = Validated.NONE;
+
+    public AstroClientImpl(
+            RestClient restClient,
+            ObjectMapper objectMapper,
+            HttpClientProperties.Client settings,
+            ResilienceRegistry resilienceRegistry,
+            MeterRegistry meterRegistry) {
+        super("mock-api-client", settings, resilienceRegistry, meterRegistry);
         this.restClient = restClient;
+        this.astronautReader = objectMapper.readerFor(Astronaut.class);
+        this.notModified =
+                Counter.builder("service.client.not.modified")
+                        .description("Conditional upstream calls answered with 304 Not Modified")
+                        .tag("service", getServiceName())
+                        .register(meterRegistry);
     }
 
     @Override
-    protected String getServiceName() {
-        return "mock-api-client";
+    protected int responseSize(Object response) {
+        if (response instanceof AstronautsResponse astronauts && astronauts.getPeople() != null) {
+            return astronauts.getPeople().size();
+        }
+        return super.responseSize(response);
     }
 
+    /**
+     * Fetches the people in space. Once a response carried an {@code ETag} or {@code
+     * Last-Modified} header, later calls send it back as {@code If-None-Match} or {@code
+     * If-Modified-Since}, and a 304 answer returns the previous body without transferring it again.
+     */
     @Override
     public AstronautsResponse getAstronauts() {
-        return executeRequest(
-                () ->
-                        restClient
-                                .get()
-                                .uri("/astros.json")
-                                .accept(MediaType.APPLICATION_JSON)
-                                .retrieve()
-                                .body(AstronautsResponse.class),
+        return executeRequest(ASTROS_REQUEST, this::fetchAstronauts, Collections.emptyMap());
+    }
+
+    private AstronautsResponse fetchAstronauts() {
+        Validated previous = lastResponse;
+        ResponseEntity<AstronautsResponse> response =
+                restClient
+                        .get()
+                        .uri(ASTROS_URI)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .headers(previous::addConditions)
+                        .retrieve()
+                        .toEntity(AstronautsResponse.class);
+
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                && previous.body() != null) {
+            notModified.increment();
+            return previous.body();
+        }
+        AstronautsResponse body = response.getBody();
+        String etag = response.getHeaders().getETag();
+        String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+        lastResponse =
+                etag != null || lastModified != null
+                        ? new Validated(body, etag, lastModified)
+                        : Validated.NONE;
+        return body;
+    }
+
+    @Override
+    public Stream<Astronaut> streamAstronauts() {
+        return streamRequest(
+                restClient.get().uri(ASTROS_URI).accept(MediaType.APPLICATION_JSON),
+                PEOPLE_FIELD,
+                astronautReader,
                 Collections.emptyMap());
     }
+
+    /** A response body with the validators the upstream sent for it. */
+    private record Validated(AstronautsResponse body, String etag, String lastModified) {
+
+        static final Validated NONE = new Validated(null, null, null);
+
+        void addConditions(HttpHeaders headers) {
+            if (body == null) {
+                return;
+            }
+            if (etag != null) {
+                headers.setIfNoneMatch(etag);
+            }
+            if (lastModified != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
 }
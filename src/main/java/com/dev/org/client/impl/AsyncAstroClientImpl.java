@@ -0,0 +1,50 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.client.AsyncAstroClient;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.HttpClientProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking astro client. It registers under the same service name as {@link AstroClientImpl},
+ * so both share one circuit breaker, bulkhead and hedger, and the same meters, for the upstream.
+ */
+public class AsyncAstroClientImpl extends AbstractServiceClient implements AsyncAstroClient {
+
+    private static final String ASTROS_URI = "/astros.json";
+
+    private final AsyncJsonClient jsonClient;
+
+    public AsyncAstroClientImpl(
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            HttpClientProperties.Client settings,
+            ResilienceRegistry resilienceRegistry,
+            MeterRegistry meterRegistry) {
+        super("mock-api-client", settings, resilienceRegistry, meterRegistry);
+        this.jsonClient =
+                new AsyncJsonClient(
+                        httpClient,
+                        settings.baseUrl(),
+                        settings.transport().readTimeout(),
+                        objectMapper);
+    }
+
+    @Override
+    protected int responseSize(Object response) {
+        if (response instanceof AstronautsResponse astronauts && astronauts.getPeople() != null) {
+            return astronauts.getPeople().size();
+        }
+        return super.responseSize(response);
+    }
+
+    @Override
+    public CompletableFuture<AstronautsResponse> getAstronautsAsync() {
+        return executeAsync(
+                () -> jsonClient.get(ASTROS_URI, AstronautsResponse.class), Collections.emptyMap());
+    }
+}
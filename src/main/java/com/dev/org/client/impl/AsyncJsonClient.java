@@ -0,0 +1,110 @@
+package com.dev.org.client.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Minimal non-blocking JSON client over the JDK {@link HttpClient}.
+ *
+ * <p>Failures are reported with the same exception types {@code RestClient} throws, so {@link
+ * AbstractServiceClient} maps them identically on the blocking and the async path: error statuses
+ * as {@link org.springframework.web.client.HttpStatusCodeException}, I/O errors and timeouts as
+ * {@link ResourceAccessException}.
+ */
+final class AsyncJsonClient {
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration readTimeout;
+    private final ObjectMapper objectMapper;
+
+    AsyncJsonClient(
+            HttpClient httpClient,
+            String baseUrl,
+            Duration readTimeout,
+            ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.baseUri = URI.create(baseUrl);
+        this.readTimeout = readTimeout;
+        this.objectMapper = objectMapper;
+    }
+
+    /** Sends a GET request and deserializes the JSON response body on completion. */
+    <T> CompletableFuture<T> get(String path, Class<T> responseType) {
+        URI uri = baseUri.resolve(path);
+        HttpRequest request =
+                HttpRequest.newBuilder(uri)
+                        .timeout(readTimeout)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .GET()
+                        .build();
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle(
+                        (response, failure) -> {
+                            if (failure != null) {
+                                throw ioError(uri, failure);
+                            }
+                            return read(response, responseType);
+                        });
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, Class<T> responseType) {
+        int status = response.statusCode();
+        if (status >= 400) {
+            HttpStatusCode statusCode = HttpStatusCode.valueOf(status);
+            HttpStatus known = HttpStatus.resolve(status);
+            String statusText = known != null ? known.getReasonPhrase() : "";
+            HttpHeaders headers = new HttpHeaders();
+            response.headers().map().forEach(headers::addAll);
+            throw statusCode.is4xxClientError()
+                    ? HttpClientErrorException.create(
+                            statusCode,
+                            statusText,
+                            headers,
+                            response.body(),
+                            StandardCharsets.UTF_8)
+                    : HttpServerErrorException.create(
+                            statusCode,
+                            statusText,
+                            headers,
+                            response.body(),
+                            StandardCharsets.UTF_8);
+        }
+        try {
+            return objectMapper.readValue(response.body(), responseType);
+        } catch (IOException ex) {
+            throw new RestClientException(
+                    "Error while extracting response for type [" + responseType.getName() + "]",
+                    ex);
+        }
+    }
+
+    private static RuntimeException ioError(URI uri, Throwable failure) {
+        Throwable cause =
+                failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+        if (cause instanceof IOException io) {
+            return new ResourceAccessException(
+                    "I/O error on GET request for \"" + uri + "\": " + io.getMessage(), io);
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+}
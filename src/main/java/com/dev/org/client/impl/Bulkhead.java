@@ -0,0 +1,83 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.config.HttpClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of concurrent calls to one upstream service. Virtual threads make request
+ * threads effectively unbounded, so without this a hanging upstream accumulates waiting calls
+ * until the read timeout.
+ */
+public final class Bulkhead {
+
+    private final boolean enabled;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Counter rejectedCalls;
+
+    Bulkhead(String serviceName, HttpClientProperties.Bulkhead settings, MeterRegistry registry) {
+        this.enabled = settings.enabled();
+        this.maxConcurrentCalls = settings.maxConcurrentCalls();
+        this.maxWaitNanos = settings.maxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.rejectedCalls =
+                Counter.builder("service.client.rejected")
+                        .description("Upstream calls rejected without being attempted")
+                        .tag("service", serviceName)
+                        .tag("reason", "bulkhead_full")
+                        .register(registry);
+        Gauge.builder("service.client.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Free concurrent call slots")
+                .tag("service", serviceName)
+                .register(registry);
+    }
+
+    /**
+     * Takes a call slot, waiting at most {@code maxWait}.
+     *
+     * @return true if a slot was taken and must be given back with {@link #release()}
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired =
+                    maxWaitNanos == 0
+                            ? permits.tryAcquire()
+                            : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+        }
+        return acquired;
+    }
+
+    /** Gives back a slot taken by {@link #tryAcquire()}. */
+    public void release() {
+        if (enabled) {
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getAvailableCalls() {
+        return permits.availablePermits();
+    }
+
+    public long getRejectedCalls() {
+        return (long) rejectedCalls.count();
+    }
+}
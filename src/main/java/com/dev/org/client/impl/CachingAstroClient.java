@@ -0,0 +1,205 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.event.DataRefreshedEvent;
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.AstroCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Caching decorator for {@link AstroClient} with stale-while-revalidate semantics.
+ *
+ * <p>A response is served from memory for {@code ttl}. For a further {@code
+ * staleWhileRevalidate} window the last good response is still served while exactly one
+ * background refresh runs. Once both windows have elapsed callers block on a fresh upstream load,
+ * and only one of them actually reaches the upstream.
+ *
+ * <p>Each cached response carries a weak entity tag computed once, when it is stored, from a
+ * 64-bit FNV-1a hash of its content. A refresh that returns the same people keeps the same tag,
+ * so polling clients can revalidate without receiving the body again. When a reload changes the
+ * tag, a {@link DataRefreshedEvent} for {@link AstroClient#DATA_SET} is published.
+ */
+public class CachingAstroClient implements AstroClient {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingAstroClient.class);
+    private static final String CACHE_METRIC = "astro.client.cache";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AstroClient delegate;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleHits;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // ReentrantLock rather than synchronized so blocked virtual threads do not pin their carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile CacheEntry entry;
+
+    public CachingAstroClient(
+            AstroClient delegate,
+            AstroCacheProperties properties,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher) {
+        this(
+                delegate,
+                properties,
+                meterRegistry,
+                eventPublisher,
+                Clock.systemUTC(),
+                task -> Thread.ofVirtual().name("astro-cache-refresh").start(task));
+    }
+
+    CachingAstroClient(
+            AstroClient delegate,
+            AstroCacheProperties properties,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock,
+            Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.ttlMillis = properties.ttl().toMillis();
+        this.staleMillis = properties.staleWhileRevalidate().toMillis();
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.eventPublisher = eventPublisher;
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.staleHits = cacheCounter(meterRegistry, "stale");
+    }
+
+    @Override
+    public AstronautsResponse getAstronauts() {
+        return current().response();
+    }
+
+    @Override
+    public Versioned<AstronautsResponse> getVersionedAstronauts() {
+        return current().versioned();
+    }
+
+    private CacheEntry current() {
+        CacheEntry current = entry;
+        if (current != null) {
+            long age = clock.millis() - current.loadedAt();
+            if (age < ttlMillis) {
+                hits.increment();
+                return current;
+            }
+            if (age < ttlMillis + staleMillis) {
+                staleHits.increment();
+                refreshInBackground();
+                return current;
+            }
+        }
+        misses.increment();
+        return load();
+    }
+
+    private CacheEntry load() {
+        loadLock.lock();
+        try {
+            // another caller may have completed the load while this one was waiting on the lock
+            CacheEntry current = entry;
+            if (current != null && clock.millis() - current.loadedAt() < ttlMillis) {
+                return current;
+            }
+            return store(delegate.getAstronauts());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(this::refresh);
+        } catch (RuntimeException ex) {
+            refreshing.set(false);
+            log.warn("could not schedule astro cache refresh", ex);
+        }
+    }
+
+    private void refresh() {
+        try {
+            store(delegate.getAstronauts());
+        } catch (RuntimeException ex) {
+            log.warn("astro cache refresh failed, keep serving stale response", ex);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private CacheEntry store(AstronautsResponse response) {
+        CacheEntry previous = entry;
+        CacheEntry stored =
+                new CacheEntry(new Versioned<>(response, etagOf(response)), clock.millis());
+        entry = stored;
+        if (previous != null && !previous.versioned().etag().equals(stored.versioned().etag())) {
+            eventPublisher.publishEvent(new DataRefreshedEvent(DATA_SET));
+        }
+        return stored;
+    }
+
+    /**
+     * Weak entity tag from a 64-bit FNV-1a hash over the response content. An empty upstream body
+     * (a null response) gets the tag of the empty hash.
+     */
+    static String etagOf(AstronautsResponse response) {
+        long hash = FNV_OFFSET_BASIS;
+        if (response != null) {
+            hash = fnv(hash, response.getMessage());
+            hash = fnv(hash, Integer.toString(response.getNumber()));
+            if (response.getPeople() != null) {
+                for (Astronaut astronaut : response.getPeople()) {
+                    hash = fnv(hash, astronaut.getName());
+                    hash = fnv(hash, astronaut.getCraft());
+                }
+            }
+        }
+        return "W/\"" + Long.toHexString(hash) + '"';
+    }
+
+    private static long fnv(long hash, String value) {
+        long h = hash;
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+        // field separator, so ("ab", "c") and ("a", "bc") hash differently
+        return (h ^ 0xFFFF) * FNV_PRIME;
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(CACHE_METRIC)
+                .description("Astro client cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CacheEntry(Versioned<AstronautsResponse> versioned, long loadedAt) {
+
+        AstronautsResponse response() {
+            return versioned.value();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.config.HttpClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Count-based circuit breaker for one upstream service.
+ *
+ * <p>While CLOSED, the outcome of the last {@code slidingWindowSize} calls is kept in a ring
+ * buffer; once at least {@code minimumCalls} are recorded and the failure rate reaches the
+ * threshold, the breaker opens and rejects calls for {@code waitInOpenState}. It then moves to
+ * HALF_OPEN and admits {@code halfOpenCalls} trial calls: if all succeed it closes, the first
+ * failure opens it again.
+ */
+public final class CircuitBreaker {
+
+    /** Circuit breaker states. */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String serviceName;
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long waitInOpenNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final Counter rejectedCalls;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    // guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private long openedAt;
+    private int halfOpenAdmitted;
+    private int halfOpenSucceeded;
+
+    private volatile State state = State.CLOSED;
+    private volatile Instant lastTransition = Instant.now();
+
+    CircuitBreaker(
+            String serviceName,
+            HttpClientProperties.CircuitBreaker settings,
+            MeterRegistry meterRegistry) {
+        this(serviceName, settings, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(
+            String serviceName,
+            HttpClientProperties.CircuitBreaker settings,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.serviceName = serviceName;
+        this.enabled = settings.enabled();
+        this.window = new boolean[settings.slidingWindowSize()];
+        this.minimumCalls = Math.min(settings.minimumCalls(), settings.slidingWindowSize());
+        this.failureRateThreshold = settings.failureRateThreshold();
+        this.waitInOpenNanos = settings.waitInOpenState().toNanos();
+        this.halfOpenCalls = settings.halfOpenCalls();
+        this.nanoClock = nanoClock;
+
+        this.rejectedCalls =
+                Counter.builder("service.client.rejected")
+                        .description("Upstream calls rejected without being attempted")
+                        .tag("service", serviceName)
+                        .tag("reason", "circuit_open")
+                        .register(meterRegistry);
+        for (State target : State.values()) {
+            transitions.put(
+                    target,
+                    Counter.builder("service.client.circuit.transitions")
+                            .description("Circuit breaker state transitions")
+                            .tag("service", serviceName)
+                            .tag("state", target.name())
+                            .register(meterRegistry));
+        }
+        Gauge.builder("service.client.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("service", serviceName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Decides whether a call may go to the upstream.
+     *
+     * @return true if the call is permitted; the caller must then report its outcome through
+     *     {@link #onSuccess()} or {@link #onFailure()}
+     */
+    public boolean tryAcquirePermission() {
+        if (!enabled || state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < waitInOpenNanos) {
+                    rejectedCalls.increment();
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenAdmitted >= halfOpenCalls) {
+                    rejectedCalls.increment();
+                    return false;
+                }
+                halfOpenAdmitted++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Records a call that reached the upstream and got a healthy answer. */
+    public void onSuccess() {
+        record(false);
+    }
+
+    /** Records a call that failed because of the upstream (5xx, I/O error, timeout). */
+    public void onFailure() {
+        record(true);
+    }
+
+    private void record(boolean failure) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> recordClosed(failure);
+                case HALF_OPEN -> recordHalfOpen(failure);
+                default -> {
+                    // OPEN: late outcome of a call admitted before the breaker opened
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordClosed(boolean failure) {
+        if (bufferedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (bufferedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void recordHalfOpen(boolean failure) {
+        if (failure) {
+            transitionTo(State.OPEN);
+        } else if (++halfOpenSucceeded >= halfOpenCalls) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = enter(target);
+        lastTransition = Instant.now();
+        transitions.get(target).increment();
+        log.warn("circuit breaker for {} moved from {} to {}", serviceName, previous, target);
+    }
+
+    /** Resets the bookkeeping of {@code target}; exhaustive, so a new state must be handled. */
+    private State enter(State target) {
+        return switch (target) {
+            case CLOSED -> enterClosed();
+            case OPEN -> enterOpen();
+            case HALF_OPEN -> enterHalfOpen();
+        };
+    }
+
+    private State enterClosed() {
+        bufferedCalls = 0;
+        failedCalls = 0;
+        windowIndex = 0;
+        return State.CLOSED;
+    }
+
+    private State enterOpen() {
+        openedAt = nanoClock.getAsLong();
+        return State.OPEN;
+    }
+
+    private State enterHalfOpen() {
+        halfOpenAdmitted = 0;
+        halfOpenSucceeded = 0;
+        return State.HALF_OPEN;
+    }
+
+    private int failureRate() {
+        return bufferedCalls == 0 ? 0 : failedCalls * 100 / bufferedCalls;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getLastTransition() {
+        return lastTransition;
+    }
+
+    /** Returns the failure percentage over the current window, 0 unless CLOSED. */
+    public int getFailureRate() {
+        lock.lock();
+        try {
+            return failureRate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCalls() {
+        return (long) rejectedCalls.count();
+    }
+
+    /** Returns how often the breaker entered each state. */
+    public Map<State, Long> getTransitions() {
+        Map<State, Long> counts = new EnumMap<>(State.class);
+        transitions.forEach((target, counter) -> counts.put(target, (long) counter.count()));
+        return counts;
+    }
+}
@@ -0,0 +1,75 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.common.exception.ServerError;
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves a locally stored copy of the astronaut feed when the upstream cannot be reached.
+ *
+ * <p>Only {@link ServerError.RemoteServiceError} triggers the fallback; any other error, an empty
+ * fallback, or a failing fallback rethrows the original exception. Fallback responses are not
+ * cached by the decorated client, so the next call tries the upstream again.
+ */
+public class FallbackAstroClient implements AstroClient {
+
+    private static final Logger log = LoggerFactory.getLogger(FallbackAstroClient.class);
+
+    private final AstroClient delegate;
+    private final Supplier<Optional<AstronautsResponse>> fallback;
+    private final Counter fallbacks;
+
+    public FallbackAstroClient(
+            AstroClient delegate,
+            Supplier<Optional<AstronautsResponse>> fallback,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.fallbacks =
+                Counter.builder("astro.client.fallback")
+                        .description("Astro responses served from the local snapshot")
+                        .register(meterRegistry);
+    }
+
+    @Override
+    public AstronautsResponse getAstronauts() {
+        return getVersionedAstronauts().value();
+    }
+
+    @Override
+    public Versioned<AstronautsResponse> getVersionedAstronauts() {
+        try {
+            return delegate.getVersionedAstronauts();
+        } catch (ApplicationException ex) {
+            if (!(ex.getApplicationError() instanceof ServerError.RemoteServiceError error)) {
+                throw ex;
+            }
+            AstronautsResponse stored = loadFallback(ex);
+            fallbacks.increment();
+            log.warn(
+                    "{} upstream unavailable, serving stored snapshot: {}",
+                    error.service(),
+                    error.message());
+            return new Versioned<>(stored, CachingAstroClient.etagOf(stored));
+        }
+    }
+
+    private AstronautsResponse loadFallback(ApplicationException original) {
+        Optional<AstronautsResponse> stored;
+        try {
+            stored = fallback.get();
+        } catch (RuntimeException ex) {
+            original.addSuppressed(ex);
+            throw original;
+        }
+        return stored.orElseThrow(() -> original);
+    }
+}
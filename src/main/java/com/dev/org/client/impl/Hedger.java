@@ -0,0 +1,167 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.common.exception.ApplicationExceptions;
+import com.dev.org.config.HttpClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+
+/**
+ * Sends a second attempt when the first has not answered within the client's recent latency
+ * percentile, and returns whichever answers first; the other attempt is cancelled.
+ *
+ * <p>Both attempts run on their own virtual thread and are always joined or cancelled before
+ * {@link #call} returns, so no attempt outlives the caller. (Java 21's {@code StructuredTaskScope}
+ * is still a preview API, hence the explicit completion service.) The caller's MDC is copied to
+ * the attempts so their logs keep the trace id.
+ *
+ * <p>Every attempt is sampled, including failed and cancelled ones: a cancelled loser has taken
+ * at least the hedge delay, and leaving it out would drag the percentile, and so the delay, down.
+ */
+final class Hedger implements AutoCloseable {
+
+    private static final int LATENCY_SAMPLES = 1_024;
+    private static final int MIN_SAMPLES = 50;
+
+    private final String serviceName;
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final LatencyTracker latencies;
+    private final TokenBucket budget;
+    private final ExecutorService executor;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+
+    Hedger(String serviceName, HttpClientProperties.Hedging settings, MeterRegistry registry) {
+        this.serviceName = serviceName;
+        this.enabled = settings.enabled();
+        this.minDelayNanos = settings.minDelay().toNanos();
+        this.maxDelayNanos = settings.maxDelay().toNanos();
+        this.latencies = new LatencyTracker(LATENCY_SAMPLES, settings.percentile(), MIN_SAMPLES);
+        this.budget = new TokenBucket(settings.budgetPercent() / 100.0, settings.budgetBurst());
+        this.executor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(serviceName + "-attempt-", 0).factory());
+        this.hedges =
+                Counter.builder("service.client.hedges")
+                        .description("Second attempts sent because the first was slow")
+                        .tag("service", serviceName)
+                        .register(registry);
+        this.hedgeWins =
+                Counter.builder("service.client.hedge.wins")
+                        .description("Hedged calls answered by the second attempt")
+                        .tag("service", serviceName)
+                        .register(registry);
+        Gauge.builder("service.client.hedge.delay", this, hedger -> hedger.delayNanos() / 1e9)
+                .description("Current delay before a hedge is sent")
+                .baseUnit("seconds")
+                .tag("service", serviceName)
+                .register(registry);
+    }
+
+    /**
+     * Runs an attempt, hedging it if enabled.
+     *
+     * @param attempt one upstream attempt; must be idempotent
+     * @return the result of the first attempt to succeed
+     */
+    <T> T call(Supplier<T> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        budget.onRequest();
+
+        CompletionService<T> race = new ExecutorCompletionService<>(executor);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Future<T> primary = race.submit(() -> timed(attempt, mdc));
+        Future<T> hedge = null;
+        try {
+            Future<T> done = race.poll(delayNanos(), TimeUnit.NANOSECONDS);
+            if (done != null) {
+                return result(done);
+            }
+            if (!budget.tryAcquire()) {
+                return result(primary);
+            }
+            hedges.increment();
+            hedge = race.submit(() -> timed(attempt, mdc));
+
+            done = race.take();
+            if (isSuccess(done)) {
+                if (done == hedge) {
+                    hedgeWins.increment();
+                }
+                return result(done);
+            }
+            // the first attempt to finish failed: the other one decides the outcome
+            Future<T> other = race.take();
+            if (other == hedge) {
+                hedgeWins.increment();
+            }
+            return result(other);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return ApplicationExceptions.remoteServiceError(serviceName, "request interrupted");
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private <T> T timed(Supplier<T> attempt, Map<String, String> mdc) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        long start = System.nanoTime();
+        try {
+            return attempt.get();
+        } finally {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /** Waits for in-flight attempts and releases the attempt executor. */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private long delayNanos() {
+        long percentile = latencies.percentileNanos();
+        if (percentile < 0) {
+            return maxDelayNanos;
+        }
+        return Math.clamp(percentile, minDelayNanos, maxDelayNanos);
+    }
+
+    private static boolean isSuccess(Future<?> attempt) {
+        return attempt.state() == Future.State.SUCCESS;
+    }
+
+    private static <T> T result(Future<T> attempt) throws InterruptedException {
+        try {
+            return attempt.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.dev.org.client.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily reads the elements of one JSON array with the Jackson streaming parser.
+ *
+ * <p>Only the element being handed to the stream is ever materialized, so memory use does not
+ * grow with the size of the array. Tokens before the array are skipped without building a tree;
+ * tokens after it are never read.
+ */
+final class JsonArrayStream<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final JsonParser parser;
+    private final ObjectReader elementReader;
+
+    private JsonArrayStream(JsonParser parser, ObjectReader elementReader) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.parser = parser;
+        this.elementReader = elementReader;
+    }
+
+    /**
+     * Opens a stream over the array found at {@code arrayField} of the root object, or over the
+     * root itself if {@code arrayField} is null. Null elements are skipped. Closing the stream
+     * closes the parser and the input; I/O errors while reading elements surface as {@link
+     * UncheckedIOException}.
+     *
+     * @throws IOException if the input is not JSON or the array is missing
+     */
+    static <T> Stream<T> of(InputStream input, String arrayField, ObjectReader elementReader)
+            throws IOException {
+        JsonParser parser = elementReader.createParser(input);
+        try {
+            positionAtArray(parser, arrayField);
+        } catch (IOException | RuntimeException ex) {
+            parser.close();
+            throw ex;
+        }
+        return StreamSupport.stream(new JsonArrayStream<T>(parser, elementReader), false)
+                .onClose(() -> close(parser));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        try {
+            JsonToken token;
+            do {
+                token = parser.nextToken();
+            } while (token == JsonToken.VALUE_NULL);
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return false;
+            }
+            action.accept(elementReader.readValue(parser));
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void positionAtArray(JsonParser parser, String arrayField) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (arrayField == null) {
+            expect(root, JsonToken.START_ARRAY, "root array");
+            return;
+        }
+        expect(root, JsonToken.START_OBJECT, "root object");
+        for (JsonToken token = parser.nextToken();
+                token == JsonToken.FIELD_NAME;
+                token = parser.nextToken()) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (arrayField.equals(name)) {
+                expect(value, JsonToken.START_ARRAY, "array '" + arrayField + "'");
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("JSON response has no array field '" + arrayField + "'");
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, String what)
+            throws IOException {
+        if (actual != expected) {
+            throw new IOException("expected " + what + " in JSON response but found " + actual);
+        }
+    }
+
+    private static void close(JsonParser parser) {
+        try {
+            parser.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dev.org.client.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the latencies of the most recent calls in a ring buffer and answers percentile queries
+ * over them. Percentiles are recomputed at most once per second, so queries on the request path
+ * are a volatile read.
+ */
+final class LatencyTracker {
+
+    private static final long RECOMPUTE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private final int minSamples;
+    private final ReentrantLock recomputeLock = new ReentrantLock();
+
+    private volatile long cachedPercentile = -1;
+    private volatile long computedAt = System.nanoTime() - RECOMPUTE_INTERVAL_NANOS;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param capacity number of recent latencies kept
+     * @param percentile percentile reported by {@link #percentileNanos()}, between 0 and 1
+     * @param minSamples latencies required before a percentile is reported
+     */
+    LatencyTracker(int capacity, double percentile, int minSamples) {
+        this.samples = new AtomicLongArray(capacity);
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+    }
+
+    void record(long nanos) {
+        int slot = (int) (recorded.getAndIncrement() % samples.length());
+        samples.set(slot, nanos);
+    }
+
+    /**
+     * Returns the configured percentile of recent latencies.
+     *
+     * @return the percentile in nanoseconds, or -1 while fewer than {@code minSamples} are known
+     */
+    long percentileNanos() {
+        long now = System.nanoTime();
+        if (now - computedAt >= RECOMPUTE_INTERVAL_NANOS && recomputeLock.tryLock()) {
+            try {
+                cachedPercentile = compute();
+                computedAt = now;
+            } finally {
+                recomputeLock.unlock();
+            }
+        }
+        return cachedPercentile;
+    }
+
+    private long compute() {
+        int size = (int) Math.min(recorded.get(), samples.length());
+        if (size < minSamples) {
+            return -1;
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.clamp(index, 0, size - 1)];
+    }
+}
@@ -0,0 +1,17 @@
+package com.dev.org.client.impl;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Identity of an outbound request used to coalesce identical in-flight calls.
+ *
+ * @param method HTTP method
+ * @param uri request URI, relative to the client's base URL
+ * @param body serialized request body, or {@code null} when the request has none
+ */
+record RequestKey(HttpMethod method, String uri, String body) {
+
+    static RequestKey of(HttpMethod method, String uri) {
+        return new RequestKey(method, uri, null);
+    }
+}
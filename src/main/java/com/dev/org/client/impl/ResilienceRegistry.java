@@ -0,0 +1,61 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.config.HttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Holds the circuit breaker, bulkhead and hedger of every service client, one of each per service
+ * name, so they can be shared by clients of the same upstream and inspected through Actuator.
+ * Hedgers are closed on shutdown.
+ */
+public class ResilienceRegistry implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Hedger> hedgers = new ConcurrentHashMap<>();
+
+    public ResilienceRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    CircuitBreaker circuitBreaker(
+            String serviceName, HttpClientProperties.CircuitBreaker settings) {
+        return circuitBreakers.computeIfAbsent(
+                serviceName, name -> new CircuitBreaker(name, settings, meterRegistry));
+    }
+
+    Bulkhead bulkhead(String serviceName, HttpClientProperties.Bulkhead settings) {
+        return bulkheads.computeIfAbsent(
+                serviceName, name -> new Bulkhead(name, settings, meterRegistry));
+    }
+
+    Hedger hedger(String serviceName, HttpClientProperties.Hedging settings) {
+        return hedgers.computeIfAbsent(
+                serviceName, name -> new Hedger(name, settings, meterRegistry));
+    }
+
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return List.copyOf(circuitBreakers.values());
+    }
+
+    /**
+     * Returns the bulkhead of a service.
+     *
+     * @param serviceName service name
+     * @return the bulkhead, or {@code null} if no client for that service exists
+     */
+    public Bulkhead getBulkhead(String serviceName) {
+        return bulkheads.get(serviceName);
+    }
+
+    @Override
+    public void destroy() {
+        hedgers.values().forEach(Hedger::close);
+    }
+}
@@ -0,0 +1,93 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.config.HttpClientProperties;
+import com.dev.org.config.HttpClientProperties.ResponseLogging.Mode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies a client's {@link HttpClientProperties.ResponseLogging} policy to successful responses.
+ *
+ * <p>In SUMMARY and FULL mode every response is recorded in the size and latency histograms; only
+ * a sample is logged. Only FULL mode renders the response itself, which for large payloads is the
+ * expensive part.
+ */
+final class ResponseLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseLogger.class);
+
+    private final String serviceName;
+    private final Mode mode;
+    private final double sampleRate;
+    private final DistributionSummary responseSize;
+    private final Timer responseLatency;
+
+    ResponseLogger(
+            String serviceName,
+            HttpClientProperties.ResponseLogging settings,
+            MeterRegistry meterRegistry) {
+        this.serviceName = serviceName;
+        this.mode = settings.mode();
+        this.sampleRate = settings.sampleRate();
+        this.responseSize =
+                DistributionSummary.builder("service.client.response.size")
+                        .description("Number of items in deserialized upstream responses")
+                        .baseUnit("items")
+                        .tag("service", serviceName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.responseLatency =
+                Timer.builder("service.client.response.latency")
+                        .description("Latency of successful upstream calls")
+                        .tag("service", serviceName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+    }
+
+    /**
+     * Records a successful response.
+     *
+     * @param response the deserialized response
+     * @param size number of items in the response
+     * @param elapsedNanos time taken to obtain the response
+     */
+    void record(Object response, int size, long elapsedNanos) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        responseSize.record(size);
+        responseLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (!log.isInfoEnabled() || !sampled()) {
+            return;
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String type = response == null ? "null" : response.getClass().getSimpleName();
+        if (mode == Mode.FULL) {
+            log.info(
+                    "response from {}: type={} size={} latencyMs={} body={}",
+                    serviceName,
+                    type,
+                    size,
+                    latencyMs,
+                    response);
+        } else {
+            log.info(
+                    "response from {}: type={} size={} latencyMs={}",
+                    serviceName,
+                    type,
+                    size,
+                    latencyMs);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0
+                || sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,63 @@
+package com.dev.org.client.impl;
+
+import com.dev.org.config.HttpClientProperties;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/** Decides which failed attempts are retried and how long to back off before each retry. */
+final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Set<Integer> retryableStatuses;
+    private final List<Class<? extends Throwable>> retryableExceptions;
+
+    RetryPolicy(HttpClientProperties.Retry settings) {
+        this.maxAttempts = Math.max(1, settings.maxAttempts());
+        this.initialBackoffNanos = settings.initialBackoff().toNanos();
+        this.maxBackoffNanos = settings.maxBackoff().toNanos();
+        this.retryableStatuses = Set.copyOf(settings.retryableStatuses());
+        this.retryableExceptions = List.copyOf(settings.retryableExceptions());
+    }
+
+    int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Tells whether a failed attempt may be retried. Status errors are matched on their code,
+     * anything else on the exception types found in its cause chain, so an {@code IOException}
+     * wrapped in a {@code ResourceAccessException} is recognised.
+     */
+    boolean isRetryable(RuntimeException failure) {
+        if (failure instanceof HttpStatusCodeException statusError) {
+            return retryableStatuses.contains(statusError.getStatusCode().value());
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : retryableExceptions) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the full-jitter backoff before a retry.
+     *
+     * @param retry retry number, starting at 1
+     * @return backoff in nanoseconds
+     */
+    long backoffNanos(int retry) {
+        int shift = Math.min(retry - 1, 30);
+        long ceiling =
+                initialBackoffNanos > maxBackoffNanos >> shift
+                        ? maxBackoffNanos
+                        : initialBackoffNanos << shift;
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
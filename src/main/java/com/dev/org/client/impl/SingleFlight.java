@@ -0,0 +1,59 @@
+package com.dev.org.client.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical calls into one. The first caller for a {@link RequestKey} runs
+ * the call; callers arriving while it is in flight wait for and share its result or exception.
+ */
+final class SingleFlight {
+
+    private final ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlight =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Runs the supplier unless an identical call is already in flight.
+     *
+     * @param key identity of the call
+     * @param supplier the call to run when this caller is the first one
+     * @param onCoalesced invoked when this caller joins a call already in flight
+     * @return the result produced by whichever caller ran the call
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(RequestKey key, Supplier<T> supplier, Runnable onCoalesced) {
+        var call = new CompletableFuture<Object>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            onCoalesced.run();
+            return (T) await(existing);
+        }
+        try {
+            T result = supplier.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.dev.org.client.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket that earns a fraction of a token per request and spends whole tokens.
+ * Used to cap extra upstream calls (retries, hedges) at a share of base traffic.
+ */
+final class TokenBucket {
+
+    private static final long TOKEN = 1_000;
+
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param tokensPerRequest tokens earned per request, e.g. 0.1 to allow one extra call per ten
+     * @param maxTokens tokens the bucket holds when full
+     */
+    TokenBucket(double tokensPerRequest, int maxTokens) {
+        this.depositPerRequest = Math.round(tokensPerRequest * TOKEN);
+        this.capacity = maxTokens * TOKEN;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /** Credits the bucket for one request. */
+    void onRequest() {
+        if (balance.get() < capacity) {
+            balance.updateAndGet(current -> Math.min(capacity, current + depositPerRequest));
+        }
+    }
+
+    /**
+     * Spends one token.
+     *
+     * @return false if less than one token is available
+     */
+    boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
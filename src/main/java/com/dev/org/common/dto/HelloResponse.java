@@ -1,8 +1,10 @@
 package com.dev.org.common.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotBlank;
 
 /**
  * Hello World response DTO.
  */
+@JsonSerialize(using = HelloResponseSerializer.class)
 public record HelloResponse(@NotBlank String message, @NotBlank String timestamp, String name) {}
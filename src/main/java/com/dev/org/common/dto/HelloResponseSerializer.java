@@ -0,0 +1,37 @@
+package com.dev.org.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes {@link HelloResponse} field by field with pre-encoded field names, skipping the bean
+ * serializer's property introspection and per-property dispatch. Null fields are written as
+ * null, as the default serializer does.
+ */
+public class HelloResponseSerializer extends StdSerializer<HelloResponse> {
+
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString NAME = new SerializedString("name");
+
+    public HelloResponseSerializer() {
+        super(HelloResponse.class);
+    }
+
+    @Override
+    public void serialize(HelloResponse value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(value);
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(value.message());
+        generator.writeFieldName(TIMESTAMP);
+        generator.writeString(value.timestamp());
+        generator.writeFieldName(NAME);
+        generator.writeString(value.name());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,47 @@
+package com.dev.org.common.dto;
+
+import com.dev.org.common.exception.ApplicationExceptions;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a newest-first listing ordered by {@code (fetchedAt, id)}. The next page starts
+ * strictly after this key, so it is found with an index seek whatever the depth, and rows inserted
+ * meanwhile never shift the page boundaries.
+ *
+ * @param fetchedAt timestamp of the last row returned
+ * @param id id of the last row returned, breaking ties between equal timestamps
+ */
+public record HistoryCursor(Instant fetchedAt, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /** Returns the opaque, URL-safe form handed to clients. */
+    public String encode() {
+        String key = fetchedAt.getEpochSecond() + ":" + fetchedAt.getNano() + ":" + id;
+        return ENCODER.encodeToString(key.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parses a cursor previously produced by {@link #encode()}.
+     *
+     * @throws com.dev.org.common.exception.ApplicationException BadRequest if it is malformed
+     */
+    public static HistoryCursor decode(String cursor) {
+        try {
+            String key = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = key.split(":");
+            if (parts.length != 3) {
+                return ApplicationExceptions.badRequest("malformed cursor");
+            }
+            return new HistoryCursor(
+                    Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            return ApplicationExceptions.badRequest("malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.dev.org.common.event;
+
+/**
+ * Published when a cached data set was reloaded with different content. Anything derived from
+ * the data set, such as serialized responses, is stale from this point on.
+ *
+ * @param dataSet name of the data set, e.g. {@code astronauts}
+ */
+public record DataRefreshedEvent(String dataSet) {}
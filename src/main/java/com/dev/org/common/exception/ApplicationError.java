@@ -1,7 +1,28 @@
 package com.dev.org.common.exception;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Base sealed interface for all application errors.
  * Permits only ClientError and ServerError subtypes for clear error categorization.
  */
-public sealed interface ApplicationError permits ClientError, ServerError {}
+public sealed interface ApplicationError permits ClientError, ServerError {
+
+    /**
+     * Returns the concrete error records below {@code root}, read from the sealed hierarchy.
+     *
+     * @param root {@code ApplicationError} or one of its sealed subtypes
+     * @return the records in declaration order
+     */
+    static List<Class<?>> recordTypes(Class<? extends ApplicationError> root) {
+        return concrete(root).toList();
+    }
+
+    private static Stream<Class<?>> concrete(Class<?> type) {
+        return type.isSealed()
+                ? Arrays.stream(type.getPermittedSubclasses()).flatMap(ApplicationError::concrete)
+                : Stream.of(type);
+    }
+}
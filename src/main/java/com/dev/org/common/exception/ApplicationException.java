@@ -1,10 +1,15 @@
 package com.dev.org.common.exception;
 
+/**
+ * Carries an {@link ApplicationError} to the exception handler. Whether the stack trace is filled
+ * in is decided per error type by the {@link StackTracePolicy}.
+ */
 public class ApplicationException extends RuntimeException {
 
     private final ApplicationError applicationError;
 
     public ApplicationException(ApplicationError applicationError) {
+        super(null, null, true, StackTracePolicy.capturesStackTrace(applicationError));
         this.applicationError = applicationError;
     }
 
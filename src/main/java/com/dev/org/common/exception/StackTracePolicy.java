@@ -0,0 +1,73 @@
+package com.dev.org.common.exception;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which {@link ApplicationException}s capture a stack trace.
+ *
+ * <p>Client errors are expected outcomes of bad input, often thrown at high rates, and their
+ * handlers never log a trace; filling one in walks the whole stack for nothing. They are
+ * therefore stackless by default. Server errors always capture their trace, since it is what
+ * an investigation starts from.
+ *
+ * <p>The policy is global because exceptions are created by static factories; it is configured
+ * once at startup from {@code app.errors.stackless-client-errors}.
+ */
+public final class StackTracePolicy {
+
+    private static final Map<String, Class<?>> CLIENT_ERRORS =
+            ApplicationError.recordTypes(ClientError.class).stream()
+                    .collect(
+                            Collectors.toUnmodifiableMap(
+                                    Class::getSimpleName, Function.identity()));
+
+    private static volatile Set<Class<?>> stackless = Set.copyOf(CLIENT_ERRORS.values());
+
+    private StackTracePolicy() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns whether an exception for {@code error} should fill in its stack trace.
+     *
+     * @param error the error being raised
+     * @return false only for client errors configured as stackless
+     */
+    public static boolean capturesStackTrace(ApplicationError error) {
+        return !stackless.contains(error.getClass());
+    }
+
+    /**
+     * Sets the client errors raised without a stack trace; all others capture one.
+     *
+     * @param names simple names of {@link ClientError} records, e.g. {@code NotFound}
+     * @throws IllegalArgumentException if a name is not a client error
+     */
+    public static void configure(Collection<String> names) {
+        stackless =
+                names.stream()
+                        .map(StackTracePolicy::clientError)
+                        .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /** Restores the default: every client error is stackless. */
+    public static void reset() {
+        stackless = Set.copyOf(CLIENT_ERRORS.values());
+    }
+
+    private static Class<?> clientError(String name) {
+        Class<?> type = CLIENT_ERRORS.get(name.trim());
+        if (type == null) {
+            throw new IllegalArgumentException(
+                    "'"
+                            + name
+                            + "' is not a client error, expected one of "
+                            + CLIENT_ERRORS.keySet());
+        }
+        return type;
+    }
+}
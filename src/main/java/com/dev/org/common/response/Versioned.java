@@ -0,0 +1,10 @@
+package com.dev.org.common.response;
+
+/**
+ * A value together with the entity tag identifying its content.
+ *
+ * @param value the value
+ * @param etag entity tag in header form, e.g. {@code W/"5f2a..."}, or null if the source does not
+ *     version its values
+ */
+public record Versioned<T>(T value, String etag) {}
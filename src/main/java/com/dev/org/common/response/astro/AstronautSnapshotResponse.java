@@ -0,0 +1,12 @@
+package com.dev.org.common.response.astro;
+
+import java.time.Instant;
+
+/**
+ * One recorded change of the people in space.
+ *
+ * @param id snapshot id
+ * @param fetchedAt when the upstream response that showed the change was fetched
+ * @param numberOfPeople number of people in space after the change
+ */
+public record AstronautSnapshotResponse(long id, Instant fetchedAt, int numberOfPeople) {}
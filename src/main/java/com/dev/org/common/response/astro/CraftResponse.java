@@ -0,0 +1,12 @@
+package com.dev.org.common.response.astro;
+
+import java.util.List;
+
+/**
+ * The people aboard one craft.
+ *
+ * @param craft craft name as reported upstream
+ * @param number number of people aboard
+ * @param people the people aboard
+ */
+public record CraftResponse(String craft, int number, List<Astronaut> people) {}
@@ -0,0 +1,11 @@
+package com.dev.org.common.response.astro;
+
+import java.util.List;
+
+/**
+ * People in space grouped by craft.
+ *
+ * @param crafts one entry per craft, in order of first appearance upstream
+ * @param number total number of people in space
+ */
+public record CraftsResponse(List<CraftResponse> crafts, int number) {}
@@ -0,0 +1,41 @@
+package com.dev.org.common.validation;
+
+import com.dev.org.common.exception.ApplicationExceptions;
+import java.util.Map;
+
+/**
+ * Validator of one record type, generated at compile time by the {@code validation-processor}
+ * module from the record's Jakarta Bean Validation constraints.
+ *
+ * <p>Constraints are checked with straight-line code in component order, and checking stops at
+ * the first violation. Unlike Bean Validation, a request with several invalid fields therefore
+ * reports only the first one.
+ *
+ * @param <T> the validated record
+ */
+public interface FastValidator<T> {
+
+    /**
+     * Returns the first violated constraint of {@code value}.
+     *
+     * @param value the record to check, not null
+     * @return the field name mapped to its message, or an empty map if {@code value} is valid
+     */
+    Map<String, String> firstViolation(T value);
+
+    /**
+     * Returns {@code value} if it is valid.
+     *
+     * @param value the record to check, not null
+     * @return {@code value}
+     * @throws com.dev.org.common.exception.ApplicationException carrying a {@link
+     *     com.dev.org.common.exception.ClientError.Validation} with the violated field
+     */
+    default T requireValid(T value) {
+        Map<String, String> violation = firstViolation(value);
+        if (!violation.isEmpty()) {
+            ApplicationExceptions.validationError("Validation failed", violation);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+package com.dev.org.common.validation;
+
+import java.util.Optional;
+
+/** Looks up the generated {@link FastValidator} of a record type. */
+public final class FastValidators {
+
+    private static final String SUFFIX = "FastValidator";
+
+    private static final ClassValue<Optional<FastValidator<?>>> VALIDATORS =
+            new ClassValue<>() {
+                @Override
+                protected Optional<FastValidator<?>> computeValue(Class<?> type) {
+                    return load(type);
+                }
+            };
+
+    private FastValidators() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the generated validator of {@code type}. The lookup is reflective once per type and
+     * cached afterwards.
+     *
+     * @param type a record type
+     * @return the validator, or empty if the processor generated none for this type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<FastValidator<T>> forType(Class<T> type) {
+        return (Optional<FastValidator<T>>) (Optional<?>) VALIDATORS.get(type);
+    }
+
+    /**
+     * Validates {@code value} with the generated validator of its class, if there is one.
+     *
+     * @param value the value to check, not null
+     * @return {@code value}
+     * @throws com.dev.org.common.exception.ApplicationException on the first violated constraint
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T requireValid(T value) {
+        Optional<FastValidator<T>> validator = forType((Class<T>) value.getClass());
+        return validator.isPresent() ? validator.get().requireValid(value) : value;
+    }
+
+    private static Optional<FastValidator<?>> load(Class<?> type) {
+        if (!type.isRecord()) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> generated =
+                    Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+            return Optional.of((FastValidator<?>) generated.getField("INSTANCE").get(null));
+        } catch (ClassNotFoundException ex) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot load fast validator of " + type, ex);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.dev.org.config;
+
+import com.dev.org.common.exception.StackTracePolicy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ApplicationErrorProperties.class)
+public class ApplicationErrorConfig {
+
+    public ApplicationErrorConfig(ApplicationErrorProperties properties) {
+        StackTracePolicy.configure(properties.stacklessClientErrors());
+    }
+}
@@ -0,0 +1,52 @@
+package com.dev.org.config;
+
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Application error settings.
+ *
+ * @param stacklessClientErrors client errors raised without filling in a stack trace, by record
+ *     name; server errors always capture one
+ * @param log how handled application errors are logged
+ * @param budget rolling error budget kept per route
+ */
+@ConfigurationProperties("app.errors")
+public record ApplicationErrorProperties(
+        @DefaultValue({"NotFound", "Validation", "BadRequest", "Conflict"})
+                Set<String> stacklessClientErrors,
+        @DefaultValue Log log,
+        @DefaultValue Budget budget) {
+
+    /**
+     * Rate limit on the log lines of handled application errors.
+     *
+     * @param window length of a counting window; repeated errors are summarised once per window
+     * @param verbatimPerWindow occurrences of one error type on one route logged individually
+     *     per window, the rest only appear in the summary
+     */
+    public record Log(
+            @DefaultValue("1m") Duration window, @DefaultValue("10") int verbatimPerWindow) {}
+
+    /**
+     * Rolling error budget kept per route.
+     *
+     * @param objective share of requests to answer without a server error, e.g. 0.999
+     * @param window length of the rolling window
+     * @param buckets slices the window is kept in; the oldest slice expires as a whole
+     */
+    public record Budget(
+            @DefaultValue("0.999") double objective,
+            @DefaultValue("1h") Duration window,
+            @DefaultValue("12") int buckets) {
+
+        public Budget {
+            if (objective <= 0 || objective >= 1) {
+                throw new IllegalArgumentException(
+                        "app.errors.budget.objective must be between 0 and 1, was " + objective);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.dev.org.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Response cache settings for the astronaut client.
+ *
+ * @param ttl how long a response is served without contacting the upstream
+ * @param staleWhileRevalidate how long an expired response may still be served while a single
+ *     background refresh runs
+ */
+@ConfigurationProperties(prefix = "app.cache.astro")
+public record AstroCacheProperties(
+        @DefaultValue("60s") Duration ttl, @DefaultValue("10m") Duration staleWhileRevalidate) {}
@@ -0,0 +1,86 @@
+package com.dev.org.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+
+/**
+ * Wraps every {@link HikariDataSource} bean in a {@link GovernedDataSource} and periodically
+ * re-evaluates their recommended sizes.
+ *
+ * <p>The wrapper is a {@link org.springframework.jdbc.datasource.DelegatingDataSource}, so
+ * Boot's Hikari metrics and health checks still find the pool underneath it.
+ */
+public class ConnectionPoolGovernor implements BeanPostProcessor, DisposableBean {
+
+    private final ConnectionPoolGovernorProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<GovernedDataSource> governed = new CopyOnWriteArrayList<>();
+
+    // guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private ScheduledExecutorService evaluator;
+
+    public ConnectionPoolGovernor(
+            ConnectionPoolGovernorProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (!properties.enabled() || !(bean instanceof HikariDataSource pool)) {
+            return bean;
+        }
+        String poolName = StringUtils.hasText(pool.getPoolName()) ? pool.getPoolName() : beanName;
+        GovernedDataSource dataSource =
+                new GovernedDataSource(
+                        pool, poolName, properties, meterRegistry.getObject(), System::nanoTime);
+        governed.add(dataSource);
+        startEvaluator();
+        return dataSource;
+    }
+
+    private void startEvaluator() {
+        lock.lock();
+        try {
+            if (evaluator != null) {
+                return;
+            }
+            long interval = properties.evaluationInterval().toMillis();
+            evaluator =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("db-pool-governor").daemon().factory());
+            evaluator.scheduleWithFixedDelay(
+                    () -> governed.forEach(GovernedDataSource::evaluate),
+                    interval,
+                    interval,
+                    TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            if (evaluator != null) {
+                evaluator.shutdownNow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dev.org.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration(proxyBeanMethods = false)
+public class ConnectionPoolGovernorConfig {
+
+    /**
+     * Static, and binding its properties directly, because a bean post-processor is created before
+     * configuration properties binding is available.
+     */
+    @Bean
+    public static ConnectionPoolGovernor connectionPoolGovernor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        ConnectionPoolGovernorProperties properties =
+                Binder.get(environment)
+                        .bindOrCreate(
+                                "app.datasource.governor", ConnectionPoolGovernorProperties.class);
+        return new ConnectionPoolGovernor(properties, meterRegistry);
+    }
+}
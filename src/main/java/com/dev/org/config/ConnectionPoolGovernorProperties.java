@@ -0,0 +1,25 @@
+package com.dev.org.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the {@link ConnectionPoolGovernor} placed in front of every Hikari pool.
+ *
+ * @param enabled whether pools are governed at all; off unless opted in
+ * @param autoTune whether the recommended size is applied to the pool, or only exported
+ * @param targetUtilization fraction of the pool that should be busy on average
+ * @param minPoolSize lower bound of the recommended size
+ * @param maxPoolSize upper bound of the recommended size; keep it below what the database allows
+ *     for this application
+ * @param evaluationInterval how often the recommendation is recomputed
+ */
+@ConfigurationProperties("app.datasource.governor")
+public record ConnectionPoolGovernorProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("false") boolean autoTune,
+        @DefaultValue("0.75") double targetUtilization,
+        @DefaultValue("2") int minPoolSize,
+        @DefaultValue("50") int maxPoolSize,
+        @DefaultValue("30s") Duration evaluationInterval) {}
@@ -0,0 +1,264 @@
+package com.dev.org.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * One Hikari pool behind a fair semaphore with as many permits as the pool has connections.
+ *
+ * <p>Hikari hands connections to waiting threads through a handoff queue that spins and parks, and
+ * gives up after {@code connectionTimeout}. The semaphore in front of it queues excess callers in
+ * FIFO order instead, which for virtual threads is no more than a parked continuation, so a burst
+ * of requests waits its turn rather than timing out in the pool.
+ *
+ * <p>Every acquisition records its wait, semaphore and pool combined, in the {@code
+ * db.pool.acquire} timer and its hold time in {@code db.pool.usage}. From these, {@link
+ * #evaluate()} applies Little's law: the mean number of connections in use is the hold time
+ * accumulated per unit of time, and the mean number of waiting callers is the wait time
+ * accumulated per unit of time. Their sum, divided by the target utilization, is the
+ * recommended pool size.
+ */
+final class GovernedDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(GovernedDataSource.class);
+
+    private final HikariDataSource pool;
+    private final String poolName;
+    private final ConnectionPoolGovernorProperties properties;
+    private final ResizableSemaphore permits;
+    private final LongSupplier nanoClock;
+
+    private final Timer acquireTimer;
+    private final Timer usageTimer;
+    private final LongAdder heldNanos = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+
+    // guarded by evaluationLock
+    private final ReentrantLock evaluationLock = new ReentrantLock();
+    private long lastEvaluatedAt;
+    private long lastHeldNanos;
+    private long lastWaitedNanos;
+
+    private volatile int recommendedSize;
+
+    GovernedDataSource(
+            HikariDataSource pool,
+            String poolName,
+            ConnectionPoolGovernorProperties properties,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        super(pool);
+        this.pool = pool;
+        this.poolName = poolName;
+        this.properties = properties;
+        this.permits = new ResizableSemaphore(pool.getMaximumPoolSize());
+        this.nanoClock = nanoClock;
+        this.lastEvaluatedAt = nanoClock.getAsLong();
+        this.recommendedSize = pool.getMaximumPoolSize();
+
+        this.acquireTimer =
+                Timer.builder("db.pool.acquire")
+                        .description("Time to obtain a connection, queueing included")
+                        .tag("pool", poolName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.usageTimer =
+                Timer.builder("db.pool.usage")
+                        .description("Time a connection is held before it is returned")
+                        .tag("pool", poolName)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        Gauge.builder("db.pool.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers queued for a connection permit")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("db.pool.recommended.size", this, ds -> ds.recommendedSize)
+                .description("Pool size suggested by observed usage and waiting")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = nanoClock.getAsLong();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(pool.getConnectionTimeout());
+        acquirePermit(timeoutNanos);
+        Connection connection;
+        try {
+            connection = borrow(timeoutNanos - (nanoClock.getAsLong() - start));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+        long acquiredAt = nanoClock.getAsLong();
+        acquireTimer.record(acquiredAt - start, TimeUnit.NANOSECONDS);
+        waitedNanos.add(acquiredAt - start);
+        return (Connection)
+                Proxy.newProxyInstance(
+                        Connection.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        new ReleasingHandler(connection, acquiredAt));
+    }
+
+    private void acquirePermit(long timeoutNanos) throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        poolName
+                                + " - connection is not available, request timed out after "
+                                + pool.getConnectionTimeout()
+                                + "ms waiting for a permit");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(
+                    poolName + " - interrupted while waiting for a permit", ex);
+        }
+    }
+
+    /**
+     * Borrows a connection, waiting only for what is left of {@code connectionTimeout} after the
+     * permit wait. The first call starts the pool through {@link HikariDataSource#getConnection()},
+     * which applies the full timeout.
+     */
+    private Connection borrow(long remainingNanos) throws SQLException {
+        if (pool.getHikariPoolMXBean() instanceof HikariPool started) {
+            return started.getConnection(
+                    Math.max(0, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+        }
+        return pool.getConnection();
+    }
+
+    /** Recomputes the recommended size over the time since the last call, and applies it. */
+    void evaluate() {
+        evaluationLock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            long elapsed = now - lastEvaluatedAt;
+            if (elapsed <= 0) {
+                return;
+            }
+            long held = heldNanos.sum();
+            long waited = waitedNanos.sum();
+            double inUse = (double) (held - lastHeldNanos) / elapsed;
+            double queued = (double) (waited - lastWaitedNanos) / elapsed;
+            lastEvaluatedAt = now;
+            lastHeldNanos = held;
+            lastWaitedNanos = waited;
+
+            long demand = (long) Math.ceil((inUse + queued) / properties.targetUtilization());
+            int target = Math.clamp(demand, properties.minPoolSize(), properties.maxPoolSize());
+            recommendedSize = target;
+            if (properties.autoTune() && target != pool.getMaximumPoolSize()) {
+                resize(target, inUse, queued);
+            }
+        } finally {
+            evaluationLock.unlock();
+        }
+    }
+
+    private void resize(int target, double inUse, double queued) {
+        int current = pool.getMaximumPoolSize();
+        log.info(
+                "resizing pool {} from {} to {} connections ({} in use, {} waiting on average)",
+                poolName,
+                current,
+                target,
+                String.format("%.1f", inUse),
+                String.format("%.1f", queued));
+        // shrink the permits before the pool and grow them after it, so callers never hold
+        // more permits than the pool has connections
+        if (target < current) {
+            permits.resize(current, target);
+            pool.setMaximumPoolSize(target);
+        } else {
+            pool.setMaximumPoolSize(target);
+            permits.resize(current, target);
+        }
+    }
+
+    int getRecommendedSize() {
+        return recommendedSize;
+    }
+
+    /** Returns the connection to the pool and its permit to the semaphore exactly once. */
+    private final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingHandler(Connection target, long acquiredAt) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    if (!released.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        target.close();
+                    } finally {
+                        long held = nanoClock.getAsLong() - acquiredAt;
+                        usageTimer.record(held, TimeUnit.NANOSECONDS);
+                        heldNanos.add(held);
+                        permits.release();
+                    }
+                    return null;
+                }
+                default -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                }
+            }
+        }
+    }
+
+    /** Semaphore whose number of permits can follow the pool size. */
+    private static final class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        void resize(int from, int to) {
+            if (to < from) {
+                reducePermits(from - to);
+            } else if (to > from) {
+                release(to - from);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.dev.org.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for outbound HTTP clients, bound from {@code app.http}.
+ *
+ * @param clients client settings keyed by client name
+ * @param logging request logging settings shared by all clients
+ */
+@ConfigurationProperties(prefix = "app.http")
+public record HttpClientProperties(Map<String, Client> clients, @DefaultValue Logging logging) {
+
+    public HttpClientProperties {
+        clients = clients == null ? Map.of() : Map.copyOf(clients);
+    }
+
+    /**
+     * Returns the settings of a named client.
+     *
+     * @param name client name, as used under {@code app.http.clients}
+     * @return the client settings
+     * @throws IllegalStateException if no client is configured under that name
+     */
+    public Client client(String name) {
+        Client client = clients.get(name);
+        if (client == null) {
+            throw new IllegalStateException(
+                    "No HTTP client configured under app.http.clients." + name);
+        }
+        return client;
+    }
+
+    /**
+     * Settings of a single outbound client.
+     *
+     * @param baseUrl base URL of the upstream service
+     * @param transport connection pool and timeout settings
+     * @param responseLogging how successful responses are logged and measured
+     * @param circuitBreaker circuit breaker guarding the upstream
+     * @param bulkhead limit on concurrent upstream calls
+     * @param retry retry policy for idempotent requests
+     * @param hedging hedged requests for idempotent requests
+     */
+    public record Client(
+            String baseUrl,
+            @DefaultValue Transport transport,
+            @DefaultValue ResponseLogging responseLogging,
+            @DefaultValue CircuitBreaker circuitBreaker,
+            @DefaultValue Bulkhead bulkhead,
+            @DefaultValue Retry retry,
+            @DefaultValue Hedging hedging) {}
+
+    /**
+     * Transport settings of a single outbound client.
+     *
+     * @param maxConnections maximum pooled connections across all routes
+     * @param maxConnectionsPerRoute maximum pooled connections per host
+     * @param connectTimeout TCP connect timeout
+     * @param readTimeout socket read / response timeout
+     * @param connectionRequestTimeout how long to wait for a connection to be leased from the pool
+     * @param idleEviction connections idle for longer than this are closed
+     * @param timeToLive maximum lifetime of a pooled connection
+     * @param http2 use the JDK HTTP/2 client instead of the pooled HTTP/1.1 client
+     */
+    public record Transport(
+            @DefaultValue("100") int maxConnections,
+            @DefaultValue("20") int maxConnectionsPerRoute,
+            @DefaultValue("2s") Duration connectTimeout,
+            @DefaultValue("5s") Duration readTimeout,
+            @DefaultValue("1s") Duration connectionRequestTimeout,
+            @DefaultValue("30s") Duration idleEviction,
+            @DefaultValue("5m") Duration timeToLive,
+            @DefaultValue("false") boolean http2) {}
+
+    /**
+     * Outbound request logging settings.
+     *
+     * @param sampleRate fraction of requests logged, between 0 and 1. Requests carrying a trace id
+     *     are sampled by trace, so either all or none of a trace's outbound calls are logged
+     * @param maxBodyBytes request body bytes included in the log event
+     */
+    public record Logging(
+            @DefaultValue("0.01") double sampleRate, @DefaultValue("512") int maxBodyBytes) {}
+
+    /**
+     * Logging policy for deserialized responses of a service client.
+     *
+     * @param mode what is logged for a successful response
+     * @param sampleRate fraction of responses logged, between 0 and 1; metrics are not sampled
+     */
+    public record ResponseLogging(
+            @DefaultValue("SUMMARY") Mode mode, @DefaultValue("0.01") double sampleRate) {
+
+        /** Response logging modes. */
+        public enum Mode {
+            /** Nothing is logged or measured. */
+            OFF,
+            /** Type, size and latency are logged and recorded as histograms. */
+            SUMMARY,
+            /** As SUMMARY, and the whole response is rendered with toString. */
+            FULL
+        }
+    }
+
+    /**
+     * Circuit breaker settings. The breaker opens when the failure rate over the last {@code
+     * slidingWindowSize} calls reaches {@code failureRateThreshold}, rejects calls for {@code
+     * waitInOpenState}, then lets {@code halfOpenCalls} trial calls through; it closes again if
+     * all of them succeed.
+     *
+     * @param enabled whether the breaker is active
+     * @param slidingWindowSize number of most recent calls the failure rate is computed over
+     * @param minimumCalls calls required in the window before the breaker may open
+     * @param failureRateThreshold failure percentage at which the breaker opens
+     * @param waitInOpenState how long the breaker stays open before allowing trial calls
+     * @param halfOpenCalls number of trial calls in the half-open state
+     */
+    public record CircuitBreaker(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("50") int slidingWindowSize,
+            @DefaultValue("20") int minimumCalls,
+            @DefaultValue("50") int failureRateThreshold,
+            @DefaultValue("30s") Duration waitInOpenState,
+            @DefaultValue("5") int halfOpenCalls) {}
+
+    /**
+     * Bulkhead settings.
+     *
+     * @param enabled whether concurrent calls are limited
+     * @param maxConcurrentCalls maximum upstream calls in flight
+     * @param maxWait how long a call waits for a free slot before being rejected
+     */
+    public record Bulkhead(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("50") int maxConcurrentCalls,
+            @DefaultValue("0s") Duration maxWait) {}
+
+    /**
+     * Retry policy. Backoff before retry {@code n} is drawn uniformly from {@code [0,
+     * min(maxBackoff, initialBackoff * 2^(n-1))]} (full jitter). Retries draw from a token bucket
+     * that earns {@code budgetPercent / 100} tokens per request and holds at most {@code
+     * budgetBurst} tokens, so retries stay below that share of base traffic during an outage.
+     *
+     * @param maxAttempts total attempts per call, including the first; 1 disables retries
+     * @param initialBackoff backoff ceiling of the first retry
+     * @param maxBackoff upper bound of the backoff ceiling
+     * @param retryableStatuses HTTP status codes that are retried
+     * @param retryableExceptions exception types retried when found in the cause chain
+     * @param budgetPercent retries allowed as a percentage of requests
+     * @param budgetBurst retries available up front, before any requests earned tokens
+     */
+    public record Retry(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("100ms") Duration initialBackoff,
+            @DefaultValue("2s") Duration maxBackoff,
+            @DefaultValue({"502", "503", "504"}) Set<Integer> retryableStatuses,
+            @DefaultValue("java.io.IOException")
+                    List<Class<? extends Throwable>> retryableExceptions,
+            @DefaultValue("10") int budgetPercent,
+            @DefaultValue("10") int budgetBurst) {}
+
+    /**
+     * Hedging settings. When an attempt has not answered within the client's recent latency
+     * percentile (clamped to {@code [minDelay, maxDelay]}), a second attempt is sent and the first
+     * answer wins. Hedges draw from a token bucket earning {@code budgetPercent / 100} tokens per
+     * request, so they stay below that share of traffic.
+     *
+     * @param enabled whether requests are hedged
+     * @param percentile latency percentile used as hedge delay, e.g. 0.95
+     * @param minDelay lower bound of the hedge delay
+     * @param maxDelay upper bound of the hedge delay, also used until enough latencies are known
+     * @param budgetPercent hedges allowed as a percentage of requests
+     * @param budgetBurst hedges available up front
+     */
+    public record Hedging(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0.95") double percentile,
+            @DefaultValue("20ms") Duration minDelay,
+            @DefaultValue("1s") Duration maxDelay,
+            @DefaultValue("5") int budgetPercent,
+            @DefaultValue("5") int budgetBurst) {}
+}
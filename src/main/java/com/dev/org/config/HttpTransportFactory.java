@@ -0,0 +1,160 @@
+package com.dev.org.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the HTTP transport behind each outbound {@code RestClient}.
+ *
+ * <p>HTTP/1.1 clients get a dedicated Apache HttpClient connection pool whose utilisation is
+ * exported as {@code httpcomponents.httpclient.pool.*} gauges tagged with the client name. HTTP/2
+ * clients use the JDK client, which multiplexes requests over a connection it manages itself and
+ * therefore has no pool to size or observe. Non-blocking clients also use the JDK client and
+ * complete responses on virtual threads. All clients are closed on shutdown.
+ */
+@Component
+public class HttpTransportFactory implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTransportFactory.class);
+
+    private final MeterRegistry meterRegistry;
+    private final List<AutoCloseable> clients = new CopyOnWriteArrayList<>();
+
+    public HttpTransportFactory(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates a request factory for the given client.
+     *
+     * @param clientName client name, used to tag pool metrics
+     * @param transport transport settings of the client
+     * @return a request factory backed by a dedicated HTTP client
+     */
+    public ClientHttpRequestFactory create(
+            String clientName, HttpClientProperties.Transport transport) {
+        return transport.http2() ? http2(clientName, transport) : pooled(clientName, transport);
+    }
+
+    /**
+     * Creates a non-blocking JDK HTTP client for the given client. Requests are multiplexed over
+     * the client's selector thread; response handlers run on virtual threads.
+     *
+     * @param clientName client name, used for logging
+     * @param transport transport settings of the client
+     * @return a dedicated JDK HTTP client
+     */
+    public HttpClient createAsync(String clientName, HttpClientProperties.Transport transport) {
+        ExecutorService executor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(clientName + "-async-", 0).factory());
+        HttpClient httpClient =
+                HttpClient.newBuilder()
+                        .version(
+                                transport.http2()
+                                        ? HttpClient.Version.HTTP_2
+                                        : HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(transport.connectTimeout())
+                        .executor(executor)
+                        .build();
+        clients.add(httpClient);
+        clients.add(executor);
+
+        log.info("http client '{}': JDK async {}", clientName, httpClient.version());
+        return httpClient;
+    }
+
+    private ClientHttpRequestFactory pooled(
+            String clientName, HttpClientProperties.Transport transport) {
+        PoolingHttpClientConnectionManager connectionManager =
+                PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(transport.maxConnections())
+                        .setMaxConnPerRoute(transport.maxConnectionsPerRoute())
+                        .setDefaultConnectionConfig(
+                                ConnectionConfig.custom()
+                                        .setConnectTimeout(timeout(transport.connectTimeout()))
+                                        .setSocketTimeout(timeout(transport.readTimeout()))
+                                        .setTimeToLive(timeValue(transport.timeToLive()))
+                                        .build())
+                        .build();
+        CloseableHttpClient httpClient =
+                HttpClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .setDefaultRequestConfig(
+                                RequestConfig.custom()
+                                        .setConnectionRequestTimeout(
+                                                timeout(transport.connectionRequestTimeout()))
+                                        .setResponseTimeout(timeout(transport.readTimeout()))
+                                        .build())
+                        // retries are owned by AbstractServiceClient's policy
+                        .disableAutomaticRetries()
+                        .evictExpiredConnections()
+                        .evictIdleConnections(timeValue(transport.idleEviction()))
+                        .build();
+        clients.add(httpClient);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName)
+                .bindTo(meterRegistry);
+        log.info(
+                "http client '{}': pooled HTTP/1.1, max connections {}, per route {}",
+                clientName,
+                transport.maxConnections(),
+                transport.maxConnectionsPerRoute());
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private ClientHttpRequestFactory http2(
+            String clientName, HttpClientProperties.Transport transport) {
+        HttpClient httpClient =
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(transport.connectTimeout())
+                        .build();
+        clients.add(httpClient);
+
+        log.info("http client '{}': JDK HTTP/2", clientName);
+        var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(transport.readTimeout());
+        return requestFactory;
+    }
+
+    @Override
+    public void destroy() {
+        for (AutoCloseable client : clients) {
+            try {
+                client.close();
+            } catch (Exception ex) {
+                log.warn("could not close http client", ex);
+            }
+        }
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
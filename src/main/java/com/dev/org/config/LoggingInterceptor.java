@@ -10,6 +10,13 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
 
+/**
+ * Logs every outbound request in full.
+ *
+ * @deprecated replaced by {@link SampledLoggingInterceptor}; kept as the baseline of the
+ *     interceptor benchmark.
+ */
+@Deprecated
 public class LoggingInterceptor implements ClientHttpRequestInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingInterceptor.class);
@@ -0,0 +1,97 @@
+package com.dev.org.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything
+ * else.
+ *
+ * <p>The read-only flag is only known once the transaction has started, so this data source must
+ * sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which
+ * defers the choice until the first statement. When the replica cannot provide a connection, the
+ * call falls back to the primary and reads stay on the primary for {@code retryAfter} before the
+ * replica is tried again.
+ */
+class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryAfterNanos;
+    private final LongSupplier nanoClock;
+    private final Counter fallbacks;
+
+    private volatile long replicaDownSince;
+    private volatile boolean replicaDown;
+
+    ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            Duration retryAfter,
+            MeterRegistry meterRegistry) {
+        this(primary, replica, retryAfter, meterRegistry, System::nanoTime);
+    }
+
+    ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            Duration retryAfter,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.nanoClock = nanoClock;
+        this.fallbacks =
+                Counter.builder("datasource.replica.fallbacks")
+                        .description("Read-only connections served by the primary")
+                        .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, ds -> ds.replicaDown ? 0 : 1)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        if (replicaDown && nanoClock.getAsLong() - replicaDownSince < retryAfterNanos) {
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            if (replicaDown) {
+                replicaDown = false;
+                log.info("replica available again, routing read-only transactions to it");
+            }
+            return connection;
+        } catch (SQLException ex) {
+            replicaDownSince = nanoClock.getAsLong();
+            if (!replicaDown) {
+                replicaDown = true;
+                log.warn("replica unavailable, routing read-only transactions to primary", ex);
+            }
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
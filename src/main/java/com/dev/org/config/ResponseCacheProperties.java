@@ -0,0 +1,21 @@
+package com.dev.org.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Serialized response cache for controller methods annotated with {@link
+ * com.dev.org.interfaces.cache.CachedResponse}.
+ *
+ * @param ttl upper bound on how long serialized bytes are served without calling the controller;
+ *     keeps time-based refreshes of the underlying data running
+ * @param minGzipBytes responses smaller than this are not gzipped
+ * @param maxEntries responses kept at most; once full, new responses are served but not stored
+ *     until expired entries are swept
+ */
+@ConfigurationProperties("app.cache.responses")
+public record ResponseCacheProperties(
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("1024") int minGzipBytes,
+        @DefaultValue("1000") int maxEntries) {}
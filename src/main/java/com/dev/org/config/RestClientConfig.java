@@ -1,31 +1,90 @@
 package com.dev.org.config;
 
 import com.dev.org.client.AstroClient;
+import com.dev.org.client.AsyncAstroClient;
 import com.dev.org.client.impl.AstroClientImpl;
+import com.dev.org.client.impl.AsyncAstroClientImpl;
+import com.dev.org.client.impl.CachingAstroClient;
+import com.dev.org.client.impl.FallbackAstroClient;
+import com.dev.org.client.impl.ResilienceRegistry;
+import com.dev.org.service.AstronautSnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableConfigurationProperties({AstroCacheProperties.class, HttpClientProperties.class})
 public class RestClientConfig {
 
     private static final Logger log = LoggerFactory.getLogger(RestClientConfig.class);
+    private static final String ASTRO_CLIENT = "astro";
 
     private final RestClient.Builder builder;
+    private final HttpClientProperties httpClientProperties;
+    private final HttpTransportFactory transportFactory;
 
-    public RestClientConfig(RestClient.Builder builder) {
-        this.builder = builder.requestInterceptor(new LoggingInterceptor());
+    public RestClientConfig(
+            RestClient.Builder builder,
+            HttpClientProperties httpClientProperties,
+            HttpTransportFactory transportFactory) {
+        this.builder =
+                builder.requestInterceptor(
+                        new SampledLoggingInterceptor(httpClientProperties.logging()));
+        this.httpClientProperties = httpClientProperties;
+        this.transportFactory = transportFactory;
     }
 
     @Bean
-    public AstroClient productClient() {
-        return new AstroClientImpl(buildRestClient("http://api.open-notify.org"));
+    public ResilienceRegistry resilienceRegistry(MeterRegistry meterRegistry) {
+        return new ResilienceRegistry(meterRegistry);
     }
 
-    private RestClient buildRestClient(String baseUrl) {
-        log.info("base url: {}", baseUrl);
-        return this.builder.baseUrl(baseUrl).build();
+    @Bean
+    public AstroClient productClient(
+            AstroCacheProperties cacheProperties,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            AstronautSnapshotService snapshotService,
+            ResilienceRegistry resilienceRegistry,
+            MeterRegistry meterRegistry) {
+        var settings = httpClientProperties.client(ASTRO_CLIENT);
+        var client =
+                new AstroClientImpl(
+                        buildRestClient(ASTRO_CLIENT, settings),
+                        objectMapper,
+                        settings,
+                        resilienceRegistry,
+                        meterRegistry);
+        var cached = new CachingAstroClient(client, cacheProperties, meterRegistry, eventPublisher);
+        return new FallbackAstroClient(cached, snapshotService::currentAstronauts, meterRegistry);
+    }
+
+    @Bean
+    public AsyncAstroClient asyncAstroClient(
+            ObjectMapper objectMapper,
+            ResilienceRegistry resilienceRegistry,
+            MeterRegistry meterRegistry) {
+        var settings = httpClientProperties.client(ASTRO_CLIENT);
+        return new AsyncAstroClientImpl(
+                transportFactory.createAsync(ASTRO_CLIENT, settings.transport()),
+                objectMapper,
+                settings,
+                resilienceRegistry,
+                meterRegistry);
+    }
+
+    private RestClient buildRestClient(String clientName, HttpClientProperties.Client settings) {
+        log.info("base url: {}", settings.baseUrl());
+        return this.builder
+                .clone()
+                .baseUrl(settings.baseUrl())
+                .requestFactory(transportFactory.create(clientName, settings.transport()))
+                .build();
     }
 }
@@ -0,0 +1,108 @@
+package com.dev.org.config;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+/**
+ * Logs a sample of outbound requests as one structured event carrying method, URI, response
+ * status, latency and a truncated request body.
+ *
+ * <p>Unsampled requests, and all requests when INFO is disabled, pass straight through without
+ * any allocation. The body is only decoded when the event is actually rendered, and never beyond
+ * {@code maxBodyBytes}.
+ */
+public class SampledLoggingInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SampledLoggingInterceptor.class);
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final int NO_STATUS = -1;
+
+    private final long sampleThreshold;
+    private final int maxBodyBytes;
+
+    public SampledLoggingInterceptor(HttpClientProperties.Logging properties) {
+        double rate = Math.clamp(properties.sampleRate(), 0.0, 1.0);
+        this.sampleThreshold = (long) (rate * Integer.MAX_VALUE);
+        this.maxBodyBytes = properties.maxBodyBytes();
+    }
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(
+            @NonNull HttpRequest request,
+            @NonNull byte[] body,
+            @NonNull ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!log.isInfoEnabled() || !sampled()) {
+            return execution.execute(request, body);
+        }
+
+        long start = System.nanoTime();
+        int status = NO_STATUS;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = response.getStatusCode().value();
+            return response;
+        } finally {
+            log.info(
+                    "outbound request {} {} {} {} {}",
+                    kv("method", request.getMethod()),
+                    kv("uri", request.getURI()),
+                    kv("status", status),
+                    kv("latencyMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)),
+                    kv("body", new TruncatedBody(body, maxBodyBytes)));
+        }
+    }
+
+    /**
+     * Head-based sampling decision. Requests within a trace hash the trace id so every service
+     * makes the same decision for the same trace; untraced requests draw a random number.
+     */
+    private boolean sampled() {
+        if (sampleThreshold >= Integer.MAX_VALUE) {
+            return true;
+        }
+        if (sampleThreshold == 0) {
+            return false;
+        }
+        String traceId = MDC.get(TRACE_ID_KEY);
+        int draw =
+                traceId != null
+                        ? traceId.hashCode() & Integer.MAX_VALUE
+                        : ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+        return draw < sampleThreshold;
+    }
+
+    /**
+     * Request body rendered lazily, decoding at most {@code maxBytes} of the original array. A cut
+     * inside a multibyte UTF-8 character backs off to the start of that character.
+     */
+    record TruncatedBody(byte[] body, int maxBytes) {
+
+        @Override
+        public String toString() {
+            if (body.length == 0) {
+                return "";
+            }
+            int length = Math.min(body.length, maxBytes);
+            // continuation bytes are 10xxxxxx
+            while (length > 0 && length < body.length && (body[length] & 0xC0) == 0x80) {
+                length--;
+            }
+            String text = new String(body, 0, length, StandardCharsets.UTF_8);
+            return length == body.length ? text : text + "...(" + body.length + " bytes)";
+        }
+    }
+}
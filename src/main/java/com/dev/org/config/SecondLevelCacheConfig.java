@@ -0,0 +1,72 @@
+package com.dev.org.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Exports the Hibernate second-level cache regions to Micrometer when the {@code l2cache} profile
+ * enables them. Each region is a JCache cache, reported as {@code cache.gets{result=hit|miss}},
+ * {@code cache.puts}, {@code cache.evictions} and {@code cache.removals} tagged with {@code
+ * cache=<region>} and {@code cache.manager=hibernate}.
+ *
+ * <p>Also lets {@code hibernate.javax.cache.uri} be a Spring {@code classpath:} location, which
+ * Hibernate cannot load on its own, by resolving it to the URI of the resource.
+ */
+@Configuration
+@ConditionalOnProperty(
+        name = "spring.jpa.properties.hibernate.cache.use_second_level_cache",
+        havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    private static final Tags TAGS = Tags.of("cache.manager", "hibernate");
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheConfigUriResolver(ResourceLoader resourceLoader) {
+        return properties -> {
+            if (properties.get(ConfigSettings.CONFIG_URI) instanceof String location
+                    && location.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
+                try {
+                    properties.put(
+                            ConfigSettings.CONFIG_URI,
+                            resourceLoader.getResource(location).getURI().toString());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("cannot resolve " + location, ex);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            var regionFactory =
+                    entityManagerFactory
+                            .unwrap(SessionFactoryImplementor.class)
+                            .getCache()
+                            .getRegionFactory();
+            if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+                return;
+            }
+            CacheManager cacheManager = jcache.getCacheManager();
+            for (String name : cacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = cacheManager.getCache(name);
+                JCacheMetrics.monitor(registry, cache, TAGS);
+            }
+        };
+    }
+}
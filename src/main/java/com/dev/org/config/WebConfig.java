@@ -1,17 +1,32 @@
 package com.dev.org.config;
 
+import com.dev.org.interfaces.advice.RouteErrorMetrics;
+import com.dev.org.interfaces.cache.CachedResponseInterceptor;
 import jakarta.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Value("${app.cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    private final CachedResponseInterceptor cachedResponseInterceptor;
+    private final RouteErrorMetrics routeErrorMetrics;
+
+    public WebConfig(
+            CachedResponseInterceptor cachedResponseInterceptor,
+            RouteErrorMetrics routeErrorMetrics) {
+        this.cachedResponseInterceptor = cachedResponseInterceptor;
+        this.routeErrorMetrics = routeErrorMetrics;
+    }
+
     @Override
     public void addCorsMappings(@Nonnull final CorsRegistry registry) {
         registry.addMapping("/**")
@@ -19,4 +34,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("*")
                 .allowedHeaders("*");
     }
+
+    @Override
+    public void addInterceptors(@Nonnull final InterceptorRegistry registry) {
+        // first, so requests answered from the response cache still count towards the budget
+        registry.addInterceptor(routeErrorMetrics);
+        registry.addInterceptor(cachedResponseInterceptor);
+    }
 }
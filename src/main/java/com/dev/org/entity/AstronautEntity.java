@@ -0,0 +1,64 @@
+package com.dev.org.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A person's stay aboard a craft, from the snapshot that first saw them to the snapshot that no
+ * longer did. {@code leftSnapshot} is null while they are still aboard.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "astronaut")
+@Table(
+        name = "astronaut",
+        indexes = @Index(name = "ix_astronaut_left_snapshot", columnList = "left_snapshot_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AstronautEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "astronaut_seq")
+    @SequenceGenerator(name = "astronaut_seq", sequenceName = "astronaut_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "craft", nullable = false)
+    private String craft;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "joined_snapshot_id", nullable = false, updatable = false)
+    private AstronautSnapshotEntity joinedSnapshot;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "left_snapshot_id")
+    private AstronautSnapshotEntity leftSnapshot;
+
+    public AstronautEntity(String name, String craft, AstronautSnapshotEntity joinedSnapshot) {
+        this.name = name;
+        this.craft = craft;
+        this.joinedSnapshot = joinedSnapshot;
+    }
+
+    /** Closes this stay at {@code snapshot}. */
+    public void leave(AstronautSnapshotEntity snapshot) {
+        this.leftSnapshot = snapshot;
+    }
+}
@@ -0,0 +1,49 @@
+package com.dev.org.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/** One ingestion run of the upstream astronaut feed that changed who is aboard. */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "astronaut-snapshot")
+@Table(
+        name = "astronaut_snapshot",
+        indexes =
+                @Index(name = "ix_astronaut_snapshot_fetched_at_id", columnList = "fetched_at, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AstronautSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "astronaut_snapshot_seq")
+    @SequenceGenerator(
+            name = "astronaut_snapshot_seq",
+            sequenceName = "astronaut_snapshot_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+
+    @Column(name = "number_of_people", nullable = false)
+    private int numberOfPeople;
+
+    public AstronautSnapshotEntity(Instant fetchedAt, int numberOfPeople) {
+        this.fetchedAt = fetchedAt;
+        this.numberOfPeople = numberOfPeople;
+    }
+}
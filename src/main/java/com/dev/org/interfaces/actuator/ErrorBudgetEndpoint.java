@@ -0,0 +1,34 @@
+package com.dev.org.interfaces.actuator;
+
+import com.dev.org.interfaces.advice.RouteErrorMetrics;
+import com.dev.org.interfaces.advice.RouteErrorMetrics.RouteErrorBudget;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/errorbudgets}) showing request and error counts and the
+ * remaining error budget of every route over the rolling window.
+ */
+@Component
+@Endpoint(id = "errorbudgets")
+@RequiredArgsConstructor
+public class ErrorBudgetEndpoint {
+
+    private final RouteErrorMetrics routeErrorMetrics;
+
+    /**
+     * Returns the error budgets of all routes.
+     *
+     * @return the availability objective and the budgets keyed by route template
+     */
+    @ReadOperation
+    public ErrorBudgets errorBudgets() {
+        return new ErrorBudgets(routeErrorMetrics.getObjective(), routeErrorMetrics.budgets());
+    }
+
+    /** Availability objective and the budget of every route. */
+    public record ErrorBudgets(double objective, Map<String, RouteErrorBudget> routes) {}
+}
@@ -0,0 +1,67 @@
+package com.dev.org.interfaces.actuator;
+
+import com.dev.org.client.impl.Bulkhead;
+import com.dev.org.client.impl.CircuitBreaker;
+import com.dev.org.client.impl.ResilienceRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/resilience}) showing circuit breaker state, transitions
+ * and rejection counts of every service client.
+ */
+@Component
+@Endpoint(id = "resilience")
+@RequiredArgsConstructor
+public class ResilienceEndpoint {
+
+    private final ResilienceRegistry resilienceRegistry;
+
+    /**
+     * Returns the resilience state of every service client.
+     *
+     * @return state keyed by service name
+     */
+    @ReadOperation
+    public Map<String, ServiceResilience> resilience() {
+        Map<String, ServiceResilience> services = new TreeMap<>();
+        for (CircuitBreaker breaker : resilienceRegistry.getCircuitBreakers()) {
+            Bulkhead bulkhead = resilienceRegistry.getBulkhead(breaker.getServiceName());
+            services.put(
+                    breaker.getServiceName(),
+                    new ServiceResilience(
+                            new CircuitBreakerState(
+                                    breaker.getState(),
+                                    breaker.getFailureRate(),
+                                    breaker.getLastTransition(),
+                                    breaker.getTransitions(),
+                                    breaker.getRejectedCalls()),
+                            bulkhead == null
+                                    ? null
+                                    : new BulkheadState(
+                                            bulkhead.getMaxConcurrentCalls(),
+                                            bulkhead.getAvailableCalls(),
+                                            bulkhead.getRejectedCalls())));
+        }
+        return services;
+    }
+
+    /** Resilience state of one service client. */
+    public record ServiceResilience(CircuitBreakerState circuitBreaker, BulkheadState bulkhead) {}
+
+    /** Circuit breaker state; {@code transitions} counts how often each state was entered. */
+    public record CircuitBreakerState(
+            CircuitBreaker.State state,
+            int failureRate,
+            Instant lastTransition,
+            Map<CircuitBreaker.State, Long> transitions,
+            long rejectedCalls) {}
+
+    /** Bulkhead occupancy. */
+    public record BulkheadState(int maxConcurrentCalls, int availableCalls, long rejectedCalls) {}
+}
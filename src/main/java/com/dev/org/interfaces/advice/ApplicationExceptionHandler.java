@@ -1,11 +1,15 @@
 package com.dev.org.interfaces.advice;
 
+import com.dev.org.common.exception.ApplicationError;
 import com.dev.org.common.exception.ApplicationException;
 import com.dev.org.common.exception.ClientError;
 import com.dev.org.common.exception.ServerError;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -23,26 +27,36 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
  * Includes centralized logging and trace ID propagation.
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ApplicationExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ApplicationExceptionHandler.class);
     private static final String TRACE_ID_KEY = "traceId";
 
+    private final ProblemRenderer problemRenderer;
+    private final ErrorLogAggregator errorLog;
+    private final RouteErrorMetrics routeErrorMetrics;
+
     /**
-     * Handles custom ApplicationException and delegates to specific handlers based on error type.
+     * Handles custom ApplicationException: records it in the route's error metrics, logs it by
+     * error type within the per-route quota of {@link ErrorLogAggregator}, and renders the problem
+     * response straight to the output stream. A response already committed by a streaming
+     * endpoint is left as it is.
      */
     @ExceptionHandler(ApplicationException.class)
-    public ProblemDetail handleApplicationException(
-            ApplicationException ex, HttpServletRequest request) {
-        return switch (ex.getApplicationError()) {
-            case ClientError.NotFound error -> handleNotFound(error, request);
-            case ClientError.Validation error -> handleValidation(error, request);
-            case ClientError.BadRequest error -> handleBadRequest(error, request);
-            case ClientError.Conflict error -> handleConflict(error, request);
-            case ServerError.RemoteServiceError error -> handleRemoteServiceError(error, request);
-            case ServerError.InternalError error -> handleInternalError(error, request);
-            case ServerError.DatabaseError error -> handleDatabaseError(error, request);
-        };
+    public void handleApplicationException(
+            ApplicationException ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ApplicationError error = ex.getApplicationError();
+        String route = RouteErrorMetrics.route(request);
+        routeErrorMetrics.recordError(error, route, request);
+        if (errorLog.record(error, route)) {
+            logError(error);
+        }
+        if (response.isCommitted()) {
+            return;
+        }
+        problemRenderer.render(error, request, response);
     }
 
     /**
@@ -106,93 +120,22 @@ public class ApplicationExceptionHandler {
         return problemDetail;
     }
 
-    // ===== CLIENT ERROR HANDLERS =====
-
-    private ProblemDetail handleNotFound(ClientError.NotFound error, HttpServletRequest request) {
-        String message =
-                String.format(
-                        "%s with identifier '%s' not found",
-                        error.resourceType(), error.identifier());
-        var problemDetail = buildProblemDetail(HttpStatus.NOT_FOUND, message, request);
-        problemDetail.setProperty("resourceType", error.resourceType());
-        problemDetail.setProperty("identifier", error.identifier());
-
-        log.error("Resource not found");
-
-        return problemDetail;
-    }
-
-    private ProblemDetail handleValidation(
-            ClientError.Validation error, HttpServletRequest request) {
-        var problemDetail = buildProblemDetail(HttpStatus.BAD_REQUEST, error.message(), request);
-        if (!error.fieldErrors().isEmpty()) {
-            problemDetail.setProperty("fieldErrors", error.fieldErrors());
+    private static void logError(ApplicationError error) {
+        switch (error) {
+            case ClientError.NotFound e -> log.error("Resource not found");
+            case ClientError.Validation e -> log.error("Validation error");
+            case ClientError.BadRequest e -> log.error("Bad request");
+            case ClientError.Conflict e -> log.error("Conflict");
+            case ServerError.RemoteServiceError e -> log.error("Remote service error");
+            case ServerError.InternalError e -> {
+                if (e.cause() != null) {
+                    log.error("Internal error", e.cause());
+                } else {
+                    log.error("Internal error");
+                }
+            }
+            case ServerError.DatabaseError e -> log.error("Database error");
         }
-
-        log.error("Validation error");
-
-        return problemDetail;
-    }
-
-    private ProblemDetail handleBadRequest(
-            ClientError.BadRequest error, HttpServletRequest request) {
-        var problemDetail = buildProblemDetail(HttpStatus.BAD_REQUEST, error.message(), request);
-
-        log.error("Bad request");
-
-        return problemDetail;
-    }
-
-    private ProblemDetail handleConflict(ClientError.Conflict error, HttpServletRequest request) {
-        var problemDetail = buildProblemDetail(HttpStatus.CONFLICT, error.message(), request);
-
-        log.error("Conflict");
-
-        return problemDetail;
-    }
-
-    // ===== SERVER ERROR HANDLERS =====
-
-    private ProblemDetail handleRemoteServiceError(
-            ServerError.RemoteServiceError error, HttpServletRequest request) {
-        String message =
-                String.format(
-                        "Service '%s' is currently unavailable: %s",
-                        error.service(), error.message());
-        var problemDetail = buildProblemDetail(HttpStatus.SERVICE_UNAVAILABLE, message, request);
-        problemDetail.setProperty("service", error.service());
-
-        log.error("Remote service error");
-
-        return problemDetail;
-    }
-
-    private ProblemDetail handleInternalError(
-            ServerError.InternalError error, HttpServletRequest request) {
-        var problemDetail =
-                buildProblemDetail(
-                        HttpStatus.INTERNAL_SERVER_ERROR,
-                        "An internal error occurred. Please contact support.",
-                        request);
-
-        if (error.cause() != null) {
-            log.error("Internal error", error.cause());
-        } else {
-            log.error("Internal error");
-        }
-
-        return problemDetail;
-    }
-
-    private ProblemDetail handleDatabaseError(
-            ServerError.DatabaseError error, HttpServletRequest request) {
-        String message = String.format("Database operation '%s' failed", error.operation());
-        var problemDetail = buildProblemDetail(HttpStatus.INTERNAL_SERVER_ERROR, message, request);
-        problemDetail.setProperty("operation", error.operation());
-
-        log.error("Database error");
-
-        return problemDetail;
     }
 
     // ===== HELPER METHODS =====
@@ -0,0 +1,86 @@
+package com.dev.org.interfaces.advice;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Request and error counts of one route over a rolling window.
+ *
+ * <p>The window is a ring of time buckets. Recording only increments the current bucket; the lock
+ * is taken when a bucket is reused for a new period, once per bucket length.
+ */
+final class ErrorBudgetWindow {
+
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final int buckets;
+    private final long bucketNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLongArray periods;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray clientErrors;
+    private final AtomicLongArray serverErrors;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    ErrorBudgetWindow(Duration window, int buckets, LongSupplier nanoClock) {
+        this.buckets = buckets;
+        this.bucketNanos = Math.max(1, window.toNanos() / buckets);
+        this.nanoClock = nanoClock;
+        this.periods = new AtomicLongArray(buckets);
+        this.requests = new AtomicLongArray(buckets);
+        this.clientErrors = new AtomicLongArray(buckets);
+        this.serverErrors = new AtomicLongArray(buckets);
+        for (int i = 0; i < buckets; i++) {
+            periods.set(i, UNUSED);
+        }
+    }
+
+    /** Counts one completed request by its response status. */
+    void record(int status) {
+        int bucket = bucket(Math.floorDiv(nanoClock.getAsLong(), bucketNanos));
+        requests.incrementAndGet(bucket);
+        if (status >= 500) {
+            serverErrors.incrementAndGet(bucket);
+        } else if (status >= 400) {
+            clientErrors.incrementAndGet(bucket);
+        }
+    }
+
+    /** Returns the counts of the buckets still inside the window. */
+    Counts counts() {
+        long oldest = Math.floorDiv(nanoClock.getAsLong(), bucketNanos) - buckets;
+        long requestCount = 0;
+        long clientErrorCount = 0;
+        long serverErrorCount = 0;
+        for (int i = 0; i < buckets; i++) {
+            if (periods.get(i) > oldest) {
+                requestCount += requests.get(i);
+                clientErrorCount += clientErrors.get(i);
+                serverErrorCount += serverErrors.get(i);
+            }
+        }
+        return new Counts(requestCount, clientErrorCount, serverErrorCount);
+    }
+
+    private int bucket(long period) {
+        int bucket = (int) Math.floorMod(period, buckets);
+        if (periods.get(bucket) != period) {
+            lock.lock();
+            try {
+                if (periods.get(bucket) != period) {
+                    requests.set(bucket, 0);
+                    clientErrors.set(bucket, 0);
+                    serverErrors.set(bucket, 0);
+                    periods.set(bucket, period);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return bucket;
+    }
+
+    record Counts(long requests, long clientErrors, long serverErrors) {}
+}
@@ -0,0 +1,98 @@
+package com.dev.org.interfaces.advice;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.dev.org.common.exception.ApplicationError;
+import com.dev.org.config.ApplicationErrorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limits the log lines of handled application errors.
+ *
+ * <p>Occurrences are counted per error type and route template. Within a window the first {@code
+ * verbatimPerWindow} occurrences of a pair are logged as they happen; the rest only raise its
+ * count, and one summary line per pair reports them when the window closes. A flood of bad
+ * requests thus costs a bounded number of log events instead of filling the async appender's
+ * queue, which silently drops everything, real errors included, once it is full.
+ *
+ * <p>Every occurrence is also counted in {@code application.errors}, tagged by error type. The
+ * counters are registered up front from the sealed hierarchy.
+ */
+@Component
+public class ErrorLogAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrorLogAggregator.class);
+
+    private final Duration window;
+    private final int verbatimPerWindow;
+    private final Map<Class<?>, Counter> occurrences;
+
+    // keys are bounded by error types times route templates, so entries are never evicted
+    private final ConcurrentMap<Key, AtomicInteger> windowCounts = new ConcurrentHashMap<>();
+
+    public ErrorLogAggregator(ApplicationErrorProperties properties, MeterRegistry meterRegistry) {
+        this.window = properties.log().window();
+        this.verbatimPerWindow = properties.log().verbatimPerWindow();
+        this.occurrences =
+                ApplicationError.recordTypes(ApplicationError.class).stream()
+                        .collect(
+                                Collectors.toUnmodifiableMap(
+                                        Function.identity(),
+                                        type ->
+                                                Counter.builder("application.errors")
+                                                        .description("Handled application errors")
+                                                        .tag("error", type.getSimpleName())
+                                                        .register(meterRegistry)));
+    }
+
+    /**
+     * Counts one occurrence of an error.
+     *
+     * @param error the handled error
+     * @param route route template of the request, never a raw path
+     * @return true if this occurrence should be logged in full
+     */
+    public boolean record(ApplicationError error, String route) {
+        occurrences.get(error.getClass()).increment();
+        int seen =
+                windowCounts
+                        .computeIfAbsent(
+                                new Key(error.getClass(), route), key -> new AtomicInteger())
+                        .incrementAndGet();
+        return seen <= verbatimPerWindow;
+    }
+
+    /** Closes the current window, logging a summary for each pair that exceeded its quota. */
+    @Scheduled(
+            initialDelayString = "${app.errors.log.window:1m}",
+            fixedDelayString = "${app.errors.log.window:1m}")
+    public void flush() {
+        windowCounts.forEach(
+                (key, count) -> {
+                    int seen = count.getAndSet(0);
+                    if (seen > verbatimPerWindow) {
+                        log.warn(
+                                "repeated application errors {} {} {} {} {}",
+                                kv("error", key.type().getSimpleName()),
+                                kv("route", key.route()),
+                                kv("occurrences", seen),
+                                kv("suppressed", seen - verbatimPerWindow),
+                                kv("window", window));
+                    }
+                });
+    }
+
+    private record Key(Class<?> type, String route) {}
+}
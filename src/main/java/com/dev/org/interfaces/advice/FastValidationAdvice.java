@@ -0,0 +1,41 @@
+package com.dev.org.interfaces.advice;
+
+import com.dev.org.common.validation.FastValidator;
+import com.dev.org.common.validation.FastValidators;
+import java.lang.reflect.Type;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * Validates {@code @RequestBody} records that have a generated {@link FastValidator} as soon as
+ * they are read. A violation becomes a {@code ClientError.Validation} with the offending field,
+ * rendered like any other ApplicationException.
+ *
+ * <p>Such parameters need no {@code @Valid}; adding it runs Bean Validation on top.
+ */
+@ControllerAdvice
+public class FastValidationAdvice extends RequestBodyAdviceAdapter {
+
+    @Override
+    public boolean supports(
+            @NonNull MethodParameter methodParameter,
+            @NonNull Type targetType,
+            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return FastValidators.forType(methodParameter.getParameterType()).isPresent();
+    }
+
+    @Override
+    @NonNull
+    public Object afterBodyRead(
+            @NonNull Object body,
+            @NonNull HttpInputMessage inputMessage,
+            @NonNull MethodParameter parameter,
+            @NonNull Type targetType,
+            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return FastValidators.requireValid(body);
+    }
+}
@@ -0,0 +1,182 @@
+package com.dev.org.interfaces.advice;
+
+import com.dev.org.common.exception.ApplicationError;
+import com.dev.org.common.exception.ClientError;
+import com.dev.org.common.exception.ServerError;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes RFC 7807 problem responses for {@link ApplicationError}s straight to the servlet output
+ * stream.
+ *
+ * <p>Produces the same JSON as a {@code ProblemDetail} returned from a handler: {@code type},
+ * {@code title}, {@code status}, {@code detail} and {@code instance}, then {@code traceId}, {@code
+ * path} and the properties of the error. The static parts come from one {@link ProblemTemplate}
+ * per error type, so rendering a 404 builds one detail string and no intermediate objects.
+ */
+@Component
+public class ProblemRenderer {
+
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final SerializedString INSTANCE = new SerializedString("instance");
+    private static final SerializedString TRACE_ID = new SerializedString(TRACE_ID_KEY);
+    private static final SerializedString PATH = new SerializedString("path");
+
+    private static final ProblemTemplate NOT_FOUND =
+            ProblemTemplate.of(HttpStatus.NOT_FOUND, "{} with identifier '{}' not found");
+    private static final ProblemTemplate BAD_REQUEST =
+            ProblemTemplate.of(HttpStatus.BAD_REQUEST, "{}");
+    private static final ProblemTemplate CONFLICT = ProblemTemplate.of(HttpStatus.CONFLICT, "{}");
+    private static final ProblemTemplate SERVICE_UNAVAILABLE =
+            ProblemTemplate.of(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Service '{}' is currently unavailable: {}");
+    private static final ProblemTemplate INTERNAL_ERROR =
+            ProblemTemplate.of(HttpStatus.INTERNAL_SERVER_ERROR, "{}");
+    private static final ProblemTemplate DATABASE_ERROR =
+            ProblemTemplate.of(HttpStatus.INTERNAL_SERVER_ERROR, "Database operation '{}' failed");
+
+    /** The template, and so the status, of every error type; checked complete at startup. */
+    private static final Map<Class<?>, ProblemTemplate> TEMPLATES =
+            templates(
+                    Map.of(
+                            ClientError.NotFound.class, NOT_FOUND,
+                            ClientError.Validation.class, BAD_REQUEST,
+                            ClientError.BadRequest.class, BAD_REQUEST,
+                            ClientError.Conflict.class, CONFLICT,
+                            ServerError.RemoteServiceError.class, SERVICE_UNAVAILABLE,
+                            ServerError.InternalError.class, INTERNAL_ERROR,
+                            ServerError.DatabaseError.class, DATABASE_ERROR));
+
+    private static final String INTERNAL_ERROR_DETAIL =
+            "An internal error occurred. Please contact support.";
+
+    private final JsonFactory jsonFactory;
+
+    public ProblemRenderer(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Sets the status and content type of {@code response} and writes the problem body.
+     *
+     * @param error the error to render
+     * @param request the failed request, for {@code instance} and {@code path}
+     * @param response an uncommitted response
+     */
+    public void render(
+            ApplicationError error, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ProblemTemplate template = TEMPLATES.get(error.getClass());
+        switch (error) {
+            case ClientError.NotFound e -> {
+                JsonGenerator out =
+                        begin(
+                                template,
+                                template.detail(e.resourceType(), e.identifier()),
+                                request,
+                                response);
+                out.writeStringField("resourceType", e.resourceType());
+                out.writeStringField("identifier", e.identifier());
+                end(out);
+            }
+            case ClientError.Validation e -> {
+                JsonGenerator out = begin(template, e.message(), request, response);
+                if (!e.fieldErrors().isEmpty()) {
+                    writeFieldErrors(out, e.fieldErrors());
+                }
+                end(out);
+            }
+            case ClientError.BadRequest e -> end(begin(template, e.message(), request, response));
+            case ClientError.Conflict e -> end(begin(template, e.message(), request, response));
+            case ServerError.RemoteServiceError e -> {
+                JsonGenerator out =
+                        begin(
+                                template,
+                                template.detail(e.service(), e.message()),
+                                request,
+                                response);
+                out.writeStringField("service", e.service());
+                end(out);
+            }
+            case ServerError.InternalError e ->
+                    end(begin(template, INTERNAL_ERROR_DETAIL, request, response));
+            case ServerError.DatabaseError e -> {
+                JsonGenerator out =
+                        begin(template, template.detail(e.operation()), request, response);
+                out.writeStringField("operation", e.operation());
+                end(out);
+            }
+        }
+    }
+
+    /**
+     * Returns the template an error type is rendered with.
+     *
+     * @param type a concrete {@link ApplicationError} record
+     * @return the template, whose status is the response status of the type
+     */
+    static ProblemTemplate template(Class<?> type) {
+        return TEMPLATES.get(type);
+    }
+
+    private static Map<Class<?>, ProblemTemplate> templates(
+            Map<Class<?>, ProblemTemplate> templates) {
+        List<Class<?>> missing =
+                ApplicationError.recordTypes(ApplicationError.class).stream()
+                        .filter(type -> !templates.containsKey(type))
+                        .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("No problem template for " + missing);
+        }
+        return templates;
+    }
+
+    private JsonGenerator begin(
+            ProblemTemplate template,
+            String detail,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        response.setStatus(template.status());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        JsonGenerator out = jsonFactory.createGenerator(response.getOutputStream());
+        template.writeHead(out, detail);
+        String path = request.getRequestURI();
+        out.writeFieldName(INSTANCE);
+        out.writeString(path);
+        String traceId = MDC.get(TRACE_ID_KEY);
+        if (traceId != null && !traceId.isEmpty()) {
+            out.writeFieldName(TRACE_ID);
+            out.writeString(traceId);
+        }
+        out.writeFieldName(PATH);
+        out.writeString(path);
+        return out;
+    }
+
+    private static void writeFieldErrors(JsonGenerator out, Map<String, String> fieldErrors)
+            throws IOException {
+        out.writeObjectFieldStart("fieldErrors");
+        for (Map.Entry<String, String> fieldError : fieldErrors.entrySet()) {
+            out.writeStringField(fieldError.getKey(), fieldError.getValue());
+        }
+        out.writeEndObject();
+    }
+
+    private static void end(JsonGenerator out) throws IOException {
+        out.writeEndObject();
+        out.close();
+    }
+}
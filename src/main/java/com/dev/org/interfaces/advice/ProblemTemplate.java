@@ -0,0 +1,84 @@
+package com.dev.org.interfaces.advice;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The fixed part of one kind of problem response, prepared once: status, title and the type URI
+ * as pre-encoded JSON strings, and the detail message split into literal segments around its
+ * {@code {}} placeholders.
+ */
+final class ProblemTemplate {
+
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DETAIL = new SerializedString("detail");
+    private static final SerializedString ABOUT_BLANK = new SerializedString("about:blank");
+
+    private final int status;
+    private final SerializedString title;
+    private final String[] segments;
+    private final int literalLength;
+
+    private ProblemTemplate(HttpStatus status, String detailPattern) {
+        this.status = status.value();
+        this.title = new SerializedString(status.getReasonPhrase());
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int at = detailPattern.indexOf("{}");
+        while (at >= 0) {
+            parts.add(detailPattern.substring(start, at));
+            start = at + 2;
+            at = detailPattern.indexOf("{}", start);
+        }
+        parts.add(detailPattern.substring(start));
+        this.segments = parts.toArray(String[]::new);
+        this.literalLength = detailPattern.length() - 2 * (segments.length - 1);
+    }
+
+    /**
+     * Creates a template.
+     *
+     * @param status response status, whose reason phrase becomes the title
+     * @param detailPattern detail message with {@code {}} for each argument; templates whose
+     *     detail is passed through unchanged use {@code {}} alone
+     */
+    static ProblemTemplate of(HttpStatus status, String detailPattern) {
+        return new ProblemTemplate(status, detailPattern);
+    }
+
+    int status() {
+        return status;
+    }
+
+    /** Fills the placeholders of the detail message. */
+    String detail(String... args) {
+        int length = literalLength;
+        for (String arg : args) {
+            length += arg == null ? 4 : arg.length();
+        }
+        StringBuilder detail = new StringBuilder(length).append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            detail.append(args[i - 1]).append(segments[i]);
+        }
+        return detail.toString();
+    }
+
+    /** Opens the problem object and writes type, title, status and detail. */
+    void writeHead(JsonGenerator out, String detail) throws IOException {
+        out.writeStartObject();
+        out.writeFieldName(TYPE);
+        out.writeString(ABOUT_BLANK);
+        out.writeFieldName(TITLE);
+        out.writeString(title);
+        out.writeFieldName(STATUS);
+        out.writeNumber(status);
+        out.writeFieldName(DETAIL);
+        out.writeString(detail);
+    }
+}
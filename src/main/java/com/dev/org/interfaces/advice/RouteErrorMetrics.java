@@ -0,0 +1,238 @@
+package com.dev.org.interfaces.advice;
+
+import com.dev.org.common.exception.ApplicationError;
+import com.dev.org.common.exception.ServerError;
+import com.dev.org.config.ApplicationErrorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Error metrics and rolling error budgets per route template.
+ *
+ * <p>For every route and {@link ApplicationError} type, {@code http.server.errors} counts handled
+ * errors tagged by {@code error}, {@code status} and {@code uri}, the tag Boot uses for route
+ * templates on {@code http.server.requests}. {@code http.server.errors.latency} times how long
+ * requests ran before failing; it is tagged by {@code outcome} and {@code uri} only, to keep the
+ * number of timers small. All meters are registered once the handler mappings are known, so
+ * recording looks up immutable maps and never the registry. Routes unknown at startup are tagged
+ * {@code UNMATCHED}.
+ *
+ * <p>As an interceptor it also counts every completed request of its route, whichever handler
+ * ended it, into an {@link ErrorBudgetWindow}. Server errors spend the budget; client errors are
+ * reported next to it.
+ */
+@Component
+public class RouteErrorMetrics implements HandlerInterceptor, SmartInitializingSingleton {
+
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+    private static final String START_ATTRIBUTE = RouteErrorMetrics.class.getName() + ".START";
+
+    private final ApplicationErrorProperties.Budget budget;
+    private final MeterRegistry meterRegistry;
+    private final Supplier<Collection<String>> routeTemplates;
+    private final LongSupplier nanoClock;
+    private final RouteMeters unmatched;
+
+    private volatile Map<String, RouteMeters> routes = Map.of();
+
+    @Autowired
+    public RouteErrorMetrics(
+            ApplicationErrorProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this(properties, meterRegistry, () -> routeTemplates(handlerMappings), System::nanoTime);
+    }
+
+    RouteErrorMetrics(
+            ApplicationErrorProperties properties,
+            MeterRegistry meterRegistry,
+            Supplier<Collection<String>> routeTemplates,
+            LongSupplier nanoClock) {
+        this.budget = properties.budget();
+        this.meterRegistry = meterRegistry;
+        this.routeTemplates = routeTemplates;
+        this.nanoClock = nanoClock;
+        this.unmatched = register(UNMATCHED_ROUTE);
+    }
+
+    /**
+     * Returns the matched route template of a request, keeping raw paths out of meter tags and
+     * log keys.
+     */
+    static String route(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+                        instanceof String pattern
+                ? pattern
+                : UNMATCHED_ROUTE;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        routes =
+                routeTemplates.get().stream()
+                        .distinct()
+                        .collect(Collectors.toUnmodifiableMap(Function.identity(), this::register));
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, nanoClock.getAsLong());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            @Nullable Exception ex) {
+        if (handler instanceof HandlerMethod) {
+            int status = ex != null ? 500 : response.getStatus();
+            meters(route(request)).window().record(status);
+        }
+    }
+
+    /**
+     * Records a handled application error.
+     *
+     * @param error the handled error
+     * @param route route template of the request, see {@link #route(HttpServletRequest)}
+     * @param request the failed request, carrying its start time
+     */
+    public void recordError(ApplicationError error, String route, HttpServletRequest request) {
+        RouteMeters meters = meters(route);
+        meters.errors().get(error.getClass()).increment();
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            Timer latency =
+                    error instanceof ServerError
+                            ? meters.serverErrorLatency()
+                            : meters.clientErrorLatency();
+            latency.record(nanoClock.getAsLong() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns the error budget of every route over the rolling window.
+     *
+     * @return budgets keyed by route template
+     */
+    public Map<String, RouteErrorBudget> budgets() {
+        Map<String, RouteErrorBudget> budgets = new TreeMap<>();
+        routes.forEach((route, meters) -> budgets.put(route, budget(meters)));
+        budgets.put(UNMATCHED_ROUTE, budget(unmatched));
+        return budgets;
+    }
+
+    public double getObjective() {
+        return budget.objective();
+    }
+
+    private RouteErrorBudget budget(RouteMeters meters) {
+        ErrorBudgetWindow.Counts counts = meters.window().counts();
+        if (counts.requests() == 0) {
+            return new RouteErrorBudget(0, 0, 0, 1.0, 1.0);
+        }
+        double errorRate = (double) counts.serverErrors() / counts.requests();
+        return new RouteErrorBudget(
+                counts.requests(),
+                counts.clientErrors(),
+                counts.serverErrors(),
+                1.0 - errorRate,
+                1.0 - errorRate / (1.0 - budget.objective()));
+    }
+
+    private RouteMeters meters(String route) {
+        RouteMeters meters = routes.get(route);
+        return meters != null ? meters : unmatched;
+    }
+
+    private RouteMeters register(String route) {
+        Map<Class<?>, Counter> errors = new HashMap<>();
+        for (Class<?> type : ApplicationError.recordTypes(ApplicationError.class)) {
+            errors.put(
+                    type,
+                    Counter.builder("http.server.errors")
+                            .description("Handled application errors")
+                            .tag("error", type.getSimpleName())
+                            .tag("status", statusTag(type))
+                            .tag("uri", route)
+                            .register(meterRegistry));
+        }
+        return new RouteMeters(
+                Map.copyOf(errors),
+                latency(route, "CLIENT_ERROR"),
+                latency(route, "SERVER_ERROR"),
+                new ErrorBudgetWindow(budget.window(), budget.buckets(), nanoClock));
+    }
+
+    private static String statusTag(Class<?> type) {
+        return String.valueOf(ProblemRenderer.template(type).status());
+    }
+
+    private Timer latency(String route, String outcome) {
+        return Timer.builder("http.server.errors.latency")
+                .description("Time from the start of a request until its error was handled")
+                .tag("outcome", outcome)
+                .tag("uri", route)
+                .register(meterRegistry);
+    }
+
+    private static List<String> routeTemplates(
+            ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        return handlerMappings
+                .orderedStream()
+                .flatMap(mapping -> mapping.getHandlerMethods().keySet().stream())
+                .flatMap(info -> info.getPatternValues().stream())
+                .toList();
+    }
+
+    private record RouteMeters(
+            Map<Class<?>, Counter> errors,
+            Timer clientErrorLatency,
+            Timer serverErrorLatency,
+            ErrorBudgetWindow window) {}
+
+    /**
+     * Error budget of one route over the rolling window.
+     *
+     * @param requests completed requests
+     * @param clientErrors requests answered with a 4xx status
+     * @param serverErrors requests answered with a 5xx status
+     * @param availability share of requests without a server error
+     * @param budgetRemaining share of the error budget left; negative once overspent
+     */
+    public record RouteErrorBudget(
+            long requests,
+            long clientErrors,
+            long serverErrors,
+            double availability,
+            double budgetRemaining) {}
+}
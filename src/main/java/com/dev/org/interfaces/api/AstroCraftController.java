@@ -0,0 +1,55 @@
+package com.dev.org.interfaces.api;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.CraftResponse;
+import com.dev.org.common.response.astro.CraftsResponse;
+import com.dev.org.interfaces.cache.CachedResponse;
+import com.dev.org.service.AstronautCraftService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * People in space grouped by craft. Responses carry the ETag of the underlying astronaut data and
+ * are served from the response byte cache until that data changes.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AstroCraftController {
+
+    private final AstronautCraftService astronautCraftService;
+
+    /**
+     * Returns every craft with the people aboard.
+     *
+     * @return CraftsResponse with one entry per craft
+     */
+    @GetMapping("/astro/crafts")
+    @CachedResponse(AstroClient.DATA_SET)
+    public ResponseEntity<CraftsResponse> getCrafts() {
+        return versioned(astronautCraftService.getCrafts());
+    }
+
+    /**
+     * Returns the people aboard one craft.
+     *
+     * @param craft craft name, case-insensitive
+     * @return CraftResponse for the craft, or 404 if nobody is aboard
+     */
+    @GetMapping("/astro/crafts/{craft}")
+    @CachedResponse(AstroClient.DATA_SET)
+    public ResponseEntity<CraftResponse> getCraft(@PathVariable("craft") String craft) {
+        return versioned(astronautCraftService.getCraft(craft));
+    }
+
+    private static <T> ResponseEntity<T> versioned(Versioned<T> response) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(response.etag())
+                .body(response.value());
+    }
+}
@@ -0,0 +1,74 @@
+package com.dev.org.interfaces.api;
+
+import com.dev.org.common.exception.ApplicationExceptions;
+import com.dev.org.common.response.astro.AstronautSnapshotResponse;
+import com.dev.org.service.AstronautSnapshotService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** History of the recorded changes to the people in space. */
+@RestController
+@RequiredArgsConstructor
+public class AstroHistoryController {
+
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private final AstronautSnapshotService snapshotService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns one page of snapshots, newest first, as {@code {"snapshots": [...], "nextCursor":
+     * ...}}. Pages are addressed by an opaque cursor rather than an offset, so a deep page costs
+     * the same as the first one.
+     *
+     * <p>Snapshots are written to the response as they are read from the database, so memory use
+     * does not grow with {@code size}. A database error after the first bytes were sent can no
+     * longer change the status code and ends the response early.
+     *
+     * @param cursor {@code nextCursor} of the previous page; omit for the newest page
+     * @param size maximum number of snapshots, 1 to {@value #MAX_PAGE_SIZE}
+     * @param response the response the page is streamed to
+     */
+    @GetMapping(path = "/astro/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getHistory(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            HttpServletResponse response)
+            throws IOException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            ApplicationExceptions.badRequest("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // closed only once the page is complete: a database error while the page still fits
+        // in the response buffer can then be reported as a proper error status
+        JsonGenerator out = objectMapper.createGenerator(response.getOutputStream());
+        out.writeStartObject();
+        out.writeArrayFieldStart("snapshots");
+        String nextCursor;
+        try {
+            nextCursor = snapshotService.streamHistory(cursor, size, row -> write(out, row));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        out.writeEndArray();
+        out.writeStringField("nextCursor", nextCursor);
+        out.writeEndObject();
+        out.close();
+    }
+
+    private static void write(JsonGenerator out, AstronautSnapshotResponse snapshot) {
+        try {
+            out.writeObject(snapshot);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
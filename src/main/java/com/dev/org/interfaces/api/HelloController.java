@@ -2,13 +2,33 @@ package com.dev.org.interfaces.api;
 
 import com.dev.org.client.AstroClient;
 import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.common.exception.ApplicationExceptions;
+import com.dev.org.common.response.Versioned;
 import com.dev.org.common.response.astro.AstronautsResponse;
-import java.time.Instant;
+import com.dev.org.interfaces.cache.CachedResponse;
+import com.dev.org.service.GreetingService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,8 +40,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class HelloController {
 
     private static final Logger logger = LoggerFactory.getLogger(HelloController.class);
+    private static final int BATCH_FLUSH_INTERVAL = 1_000;
 
     private final AstroClient astroClient;
+    private final GreetingService greetingService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Returns a greeting message.
@@ -33,20 +56,124 @@ public class HelloController {
     public ResponseEntity<HelloResponse> sayHello(
             @RequestParam(value = "name", defaultValue = "World") String name) {
 
-        logger.info("Processing hello request for name: {}", name);
+        logger.debug("Processing hello request for name: {}", name);
 
-        String message = String.format("Hello, %s!", name);
-        String timestamp = Instant.now().toString();
-
-        HelloResponse response = new HelloResponse(message, timestamp, name);
+        HelloResponse response = greetingService.greet(name);
 
         logger.debug("Generated hello response: {}", response);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Greets a batch of names in one request. The body is a JSON array of names or a sequence of
+     * newline-delimited JSON strings. One HelloResponse per name is streamed back as NDJSON, or as
+     * a JSON array if the client accepts application/json but not NDJSON.
+     *
+     * <p>Names are read and greetings written one at a time, with a flush every {@value
+     * #BATCH_FLUSH_INTERVAL} greetings, so memory use does not grow with the batch size. A
+     * malformed batch is rejected with 400 while nothing has been flushed yet; after that the
+     * status is already sent, so the stream instead ends with a problem object (title, status and
+     * detail) in place of the next greeting.
+     *
+     * @param request the request carrying the names
+     * @param response the response the greetings are streamed to
+     */
+    @PostMapping(
+            path = "/hello/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void sayHelloBatch(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean jsonArray = prefersJsonArray(request.getHeader(HttpHeaders.ACCEPT));
+        response.setContentType(
+                jsonArray ? MediaType.APPLICATION_JSON_VALUE : MediaType.APPLICATION_NDJSON_VALUE);
+        // not try-with-resources: closing would flush, and an error before the first
+        // flush must leave the response uncommitted for the exception handler
+        JsonGenerator out = objectMapper.createGenerator(response.getOutputStream());
+        out.setRootValueSeparator(null);
+        if (jsonArray) {
+            out.writeStartArray();
+        }
+        try (JsonParser names = objectMapper.createParser(request.getInputStream())) {
+            long count = writeGreetings(names, out, jsonArray);
+            logger.debug("Greeted batch of {} names", count);
+        } catch (JsonProcessingException ex) {
+            String detail = "malformed batch: " + ex.getOriginalMessage();
+            if (!response.isCommitted()) {
+                ApplicationExceptions.badRequest(detail);
+            }
+            logger.warn("Ending partially streamed batch: {}", detail);
+            writeProblem(out, detail, jsonArray);
+        }
+        if (jsonArray) {
+            out.writeEndArray();
+        }
+        out.close();
+    }
+
+    private long writeGreetings(JsonParser names, JsonGenerator out, boolean jsonArray)
+            throws IOException {
+        JsonToken token = names.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            token = names.nextToken();
+        }
+        long count = 0;
+        for (; token != null && token != JsonToken.END_ARRAY; token = names.nextToken()) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new JsonParseException(
+                        names, "name " + (count + 1) + " is not a JSON string but " + token);
+            }
+            out.writeObject(greetingService.greet(names.getText()));
+            if (!jsonArray) {
+                out.writeRaw('\n');
+            }
+            if (++count % BATCH_FLUSH_INTERVAL == 0) {
+                out.flush();
+            }
+        }
+        return count;
+    }
+
+    private static void writeProblem(JsonGenerator out, String detail, boolean jsonArray)
+            throws IOException {
+        out.writeStartObject();
+        out.writeStringField("title", HttpStatus.BAD_REQUEST.getReasonPhrase());
+        out.writeNumberField("status", HttpStatus.BAD_REQUEST.value());
+        out.writeStringField("detail", detail);
+        out.writeEndObject();
+        if (!jsonArray) {
+            out.writeRaw('\n');
+        }
+    }
+
+    private static boolean prefersJsonArray(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return false;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return ApplicationExceptions.badRequest("malformed Accept header: " + ex.getMessage());
+        }
+        return accepted.stream().noneMatch(type -> type.includes(MediaType.APPLICATION_NDJSON))
+                && accepted.stream().anyMatch(type -> type.includes(MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Returns the people currently in space. The response carries an ETag; a request whose
+     * If-None-Match matches it gets 304 Not Modified without the body being serialized. The
+     * serialized body is cached until the people change.
+     *
+     * @return AstronautsResponse with the people in space
+     */
     @GetMapping("/astro")
+    @CachedResponse(AstroClient.DATA_SET)
     public ResponseEntity<AstronautsResponse> getAstros() {
-        return ResponseEntity.ok(astroClient.getAstronauts());
+        Versioned<AstronautsResponse> astronauts = astroClient.getVersionedAstronauts();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(astronauts.etag())
+                .body(astronauts.value());
     }
 }
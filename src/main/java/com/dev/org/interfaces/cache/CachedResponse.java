@@ -0,0 +1,26 @@
+package com.dev.org.interfaces.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the serialized JSON response of a GET handler method, together with a gzipped variant.
+ * Cached bytes are written straight to the response, skipping the handler, serialization and
+ * compression. They are dropped when the data set they derive from is refreshed.
+ *
+ * <p>Responses are keyed by handler method and path variables only, so the method must not bind
+ * request parameters, headers or the query string.
+ *
+ * @see ResponseByteCache
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /** Name of the data set the response derives from, announced by {@code DataRefreshedEvent}. */
+    String value();
+}
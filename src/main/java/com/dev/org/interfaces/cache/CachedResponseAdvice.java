@@ -0,0 +1,74 @@
+package com.dev.org.interfaces.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Fills {@link ResponseByteCache} on a miss of a {@link CachedResponse} handler method. The body
+ * is serialized once more here with the application's ObjectMapper; that cost is paid once per
+ * refresh of the data set instead of on every request.
+ */
+@ControllerAdvice
+public class CachedResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedResponseAdvice.class);
+
+    private final ResponseByteCache cache;
+    private final ObjectMapper objectMapper;
+
+    public CachedResponseAdvice(ResponseByteCache cache, ObjectMapper objectMapper) {
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(
+            @NonNull MethodParameter returnType,
+            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class)
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            @NonNull MethodParameter returnType,
+            @NonNull MediaType selectedContentType,
+            @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            @NonNull ServerHttpRequest request,
+            @NonNull ServerHttpResponse response) {
+        if (body != null
+                && request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value()
+                && servletRequest
+                                .getServletRequest()
+                                .getAttribute(CachedResponseInterceptor.PENDING_ATTRIBUTE)
+                        instanceof ResponseByteCache.Pending pending) {
+            try {
+                cache.put(
+                        pending,
+                        objectMapper.writeValueAsBytes(body),
+                        selectedContentType,
+                        response.getHeaders());
+            } catch (JsonProcessingException ex) {
+                log.warn("could not cache response of {}", returnType.getMethod(), ex);
+            }
+        }
+        return body;
+    }
+}
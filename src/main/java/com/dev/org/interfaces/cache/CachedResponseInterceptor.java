@@ -0,0 +1,145 @@
+package com.dev.org.interfaces.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Answers GET requests to {@link CachedResponse} handler methods from {@link ResponseByteCache}.
+ *
+ * <p>On a hit the handler is not invoked: a matching {@code If-None-Match} gets 304, otherwise the
+ * cached bytes are written directly, gzipped if the client accepts it. On a miss the request
+ * proceeds normally and {@link CachedResponseAdvice} stores the rendered response.
+ */
+@Component
+public class CachedResponseInterceptor implements HandlerInterceptor {
+
+    static final String PENDING_ATTRIBUTE = CachedResponseInterceptor.class.getName() + ".PENDING";
+    private static final String GZIP = "gzip";
+
+    private final ResponseByteCache cache;
+
+    public CachedResponseInterceptor(ResponseByteCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod method)
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        CachedResponse cached = method.getMethodAnnotation(CachedResponse.class);
+        if (cached == null) {
+            return true;
+        }
+        String key = cacheKey(method, request);
+        ResponseByteCache.Entry entry = cache.get(key);
+        if (entry == null || !acceptsContentType(request, entry.contentType())) {
+            request.setAttribute(PENDING_ATTRIBUTE, cache.pending(key, cached.value()));
+            return true;
+        }
+        write(entry, request, response);
+        return false;
+    }
+
+    private void write(
+            ResponseByteCache.Entry entry, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        entry.headers().forEach((name, values) -> values.forEach(v -> response.addHeader(name, v)));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.etag() != null
+                && new ServletWebRequest(request, response).checkNotModified(entry.etag())) {
+            cache.recordHit(false);
+            return;
+        }
+        cache.recordHit(true);
+
+        boolean gzip = entry.gzip() != null && acceptsGzip(request);
+        byte[] body = gzip ? entry.gzip() : entry.identity();
+        response.setContentType(entry.contentType().toString());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Keys a response by what the handler binds: the method and its URI template variables. The
+     * query string is left out, so clients cannot create entries with parameters the handler
+     * ignores.
+     */
+    static String cacheKey(HandlerMethod method, HttpServletRequest request) {
+        String handler = method.getBeanType().getName() + '#' + method.getMethod().getName();
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)
+                        instanceof Map<?, ?> variables
+                && !variables.isEmpty()) {
+            return handler + new TreeMap<>(variables);
+        }
+        return handler;
+    }
+
+    private static boolean acceptsContentType(HttpServletRequest request, MediaType contentType) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!StringUtils.hasText(accept)) {
+            return true;
+        }
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            return accepted.stream().anyMatch(type -> type.isCompatibleWith(contentType));
+        } catch (InvalidMediaTypeException ex) {
+            // let the regular handler chain reject the header
+            return false;
+        }
+    }
+
+    /** True if Accept-Encoding lists gzip (or *) without q=0. */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            String[] parts = StringUtils.tokenizeToStringArray(coding, ";");
+            if (parts.length > 0
+                    && (GZIP.equalsIgnoreCase(parts[0]) || "*".equals(parts[0]))
+                    && !isZeroQuality(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].replace(" ", "");
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0.0;
+                } catch (NumberFormatException ex) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+package com.dev.org.interfaces.cache;
+
+import com.dev.org.common.event.DataRefreshedEvent;
+import com.dev.org.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serialized responses of {@link CachedResponse} handler methods, keyed by handler method and
+ * URI template variables.
+ *
+ * <p>Each entry holds the JSON bytes as the message converter would have written them and, above
+ * {@code minGzipBytes}, a gzipped copy, so serving a hit costs one array copy to the socket.
+ * Entries are dropped when their data set is refreshed and expire after {@code ttl} at the latest.
+ * A generation counter per data set keeps a response rendered before a refresh from being stored
+ * after it.
+ *
+ * <p>At most {@code maxEntries} responses are kept. Expired entries are swept every {@code ttl};
+ * while the cache is full, further responses are served without being stored.
+ */
+@Component
+public class ResponseByteCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseByteCache.class);
+    private static final List<String> REPLAYED_HEADERS =
+            List.of(HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, HttpHeaders.LAST_MODIFIED);
+
+    private final long ttlMillis;
+    private final int minGzipBytes;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    @Autowired
+    public ResponseByteCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    ResponseByteCache(
+            ResponseCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.ttlMillis = properties.ttl().toMillis();
+        this.minGzipBytes = properties.minGzipBytes();
+        this.maxEntries = properties.maxEntries();
+        this.clock = clock;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.notModified = counter(meterRegistry, "not_modified");
+    }
+
+    /**
+     * Looks up a cached response.
+     *
+     * @return the entry, or null if there is none or it has expired
+     */
+    Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && expired(entry, clock.millis())) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        return entry;
+    }
+
+    /** Marks the start of a cache miss; the returned token is needed to store the response. */
+    Pending pending(String key, String dataSet) {
+        misses.increment();
+        return new Pending(key, dataSet, generation(dataSet).get());
+    }
+
+    /**
+     * Stores a rendered response unless its data set was refreshed since the miss began.
+     *
+     * @param json the serialized body
+     * @param headers response headers; only validators and Cache-Control are kept
+     */
+    void put(Pending pending, byte[] json, MediaType contentType, HttpHeaders headers) {
+        AtomicLong generation = generation(pending.dataSet());
+        if (generation.get() != pending.generation()) {
+            return;
+        }
+        HttpHeaders replayed = new HttpHeaders();
+        for (String name : REPLAYED_HEADERS) {
+            List<String> values = headers.get(name);
+            if (values != null) {
+                replayed.addAll(name, values);
+            }
+        }
+        if (!entries.containsKey(pending.key()) && entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                log.debug("response cache is full, not storing {}", pending.key());
+                return;
+            }
+        }
+        byte[] gzip = json.length >= minGzipBytes ? gzip(json) : null;
+        Entry entry =
+                new Entry(
+                        pending.dataSet(),
+                        contentType,
+                        json,
+                        gzip,
+                        headers.getETag(),
+                        HttpHeaders.readOnlyHttpHeaders(replayed),
+                        clock.millis());
+        entries.put(pending.key(), entry);
+        // a refresh between the check above and the put has already swept the map
+        if (generation.get() != pending.generation()) {
+            entries.remove(pending.key(), entry);
+        }
+    }
+
+    void recordHit(boolean modified) {
+        (modified ? hits : notModified).increment();
+    }
+
+    /** Drops expired entries, including those whose key is never requested again. */
+    @Scheduled(
+            initialDelayString = "${app.cache.responses.ttl:30s}",
+            fixedDelayString = "${app.cache.responses.ttl:30s}")
+    public void evictExpired() {
+        long now = clock.millis();
+        entries.values().removeIf(entry -> expired(entry, now));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** Drops every response derived from the refreshed data set. */
+    @EventListener
+    public void onDataRefreshed(DataRefreshedEvent event) {
+        generation(event.dataSet()).incrementAndGet();
+        entries.values().removeIf(entry -> entry.dataSet().equals(event.dataSet()));
+        log.debug("dropped cached responses of data set {}", event.dataSet());
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return now - entry.storedAt() >= ttlMillis;
+    }
+
+    private AtomicLong generation(String dataSet) {
+        return generations.computeIfAbsent(dataSet, name -> new AtomicLong());
+    }
+
+    private static byte[] gzip(byte[] json) {
+        var bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("response.cache")
+                .description("Serialized response cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** A cache miss in progress. */
+    record Pending(String key, String dataSet, long generation) {}
+
+    /**
+     * A cached response.
+     *
+     * @param gzip gzipped body, or null if the body is too small to be worth compressing
+     * @param etag entity tag of the response, or null
+     */
+    record Entry(
+            String dataSet,
+            MediaType contentType,
+            byte[] identity,
+            byte[] gzip,
+            String etag,
+            HttpHeaders headers,
+            long storedAt) {}
+}
@@ -0,0 +1,22 @@
+package com.dev.org.repository;
+
+import com.dev.org.entity.AstronautEntity;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface AstronautRepository extends JpaRepository<AstronautEntity, Long> {
+
+    /**
+     * Returns everyone still aboard according to the latest snapshot, in the order they joined.
+     * Cached in the query cache when the second-level cache is enabled; any write to the astronaut
+     * table invalidates it.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "astronaut-current")
+    })
+    List<AstronautEntity> findByLeftSnapshotIsNullOrderByIdAsc();
+}
@@ -0,0 +1,39 @@
+package com.dev.org.repository;
+
+import com.dev.org.common.response.astro.AstronautSnapshotResponse;
+import com.dev.org.entity.AstronautSnapshotEntity;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Snapshot history is read newest first as DTO projections, so streamed rows never enter the
+ * persistence context. Both history queries walk the {@code (fetched_at, id)} index and fetch
+ * {@code hibernate.jdbc.fetch_size} rows per round trip; the stream must be consumed inside a
+ * transaction.
+ */
+public interface AstronautSnapshotRepository extends JpaRepository<AstronautSnapshotEntity, Long> {
+
+    @Query(
+            """
+            select new com.dev.org.common.response.astro.AstronautSnapshotResponse(
+                    s.id, s.fetchedAt, s.numberOfPeople)
+            from AstronautSnapshotEntity s
+            order by s.fetchedAt desc, s.id desc
+            """)
+    Stream<AstronautSnapshotResponse> streamNewest(Limit limit);
+
+    @Query(
+            """
+            select new com.dev.org.common.response.astro.AstronautSnapshotResponse(
+                    s.id, s.fetchedAt, s.numberOfPeople)
+            from AstronautSnapshotEntity s
+            where (s.fetchedAt, s.id) < (:fetchedAt, :id)
+            order by s.fetchedAt desc, s.id desc
+            """)
+    Stream<AstronautSnapshotResponse> streamOlderThan(
+            @Param("fetchedAt") Instant fetchedAt, @Param("id") long id, Limit limit);
+}
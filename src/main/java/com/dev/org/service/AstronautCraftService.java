@@ -0,0 +1,25 @@
+package com.dev.org.service;
+
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.CraftResponse;
+import com.dev.org.common.response.astro.CraftsResponse;
+
+/** Serves the people in space grouped by the craft they are aboard. */
+public interface AstronautCraftService {
+
+    /**
+     * Returns every craft with the people aboard.
+     *
+     * @return the crafts, tagged with the version of the underlying data
+     */
+    Versioned<CraftsResponse> getCrafts();
+
+    /**
+     * Returns the people aboard one craft.
+     *
+     * @param craft craft name, matched case-insensitively
+     * @return the craft, tagged with the version of the underlying data
+     * @throws com.dev.org.common.exception.ApplicationException NotFound if nobody is aboard
+     */
+    Versioned<CraftResponse> getCraft(String craft);
+}
@@ -0,0 +1,50 @@
+package com.dev.org.service;
+
+import com.dev.org.common.response.astro.AstronautSnapshotResponse;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/** Keeps a history of who was in space, as seen by the upstream astronaut feed. */
+public interface AstronautSnapshotService {
+
+    /**
+     * Diffs {@code response} against the people currently recorded aboard and persists only the
+     * changes. Nothing is written when nobody joined or left.
+     *
+     * @param response latest upstream response, or null if the upstream sent no body; a missing
+     *     body records nothing rather than everyone leaving
+     * @return how many people joined and left
+     */
+    SnapshotDiff record(AstronautsResponse response);
+
+    /**
+     * Rebuilds the latest known upstream response from the database.
+     *
+     * @return the people recorded aboard, or empty if nothing was ever recorded
+     */
+    Optional<AstronautsResponse> currentAstronauts();
+
+    /**
+     * Streams one page of the snapshot history, newest first, to {@code sink}. Rows are handed
+     * over as they are read, so memory use does not depend on {@code size}.
+     *
+     * @param cursor cursor returned for the previous page, or null for the first page
+     * @param size maximum number of snapshots to stream
+     * @param sink receives each snapshot of the page
+     * @return cursor for the next page, or null if this was the last one
+     * @throws com.dev.org.common.exception.ApplicationException BadRequest if the cursor is
+     *     malformed
+     */
+    String streamHistory(String cursor, int size, Consumer<AstronautSnapshotResponse> sink);
+
+    /** Outcome of one {@link #record} call. */
+    record SnapshotDiff(int joined, int left) {
+
+        public static final SnapshotDiff NONE = new SnapshotDiff(0, 0);
+
+        public boolean isEmpty() {
+            return joined == 0 && left == 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dev.org.service;
+
+import com.dev.org.common.dto.HelloResponse;
+
+/** Builds greetings. */
+public interface GreetingService {
+
+    /**
+     * Greets a name.
+     *
+     * @param name the name to greet
+     * @return the greeting, timestamped with the current instant at millisecond precision
+     */
+    HelloResponse greet(String name);
+}
@@ -0,0 +1,99 @@
+package com.dev.org.service.impl;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.exception.ApplicationExceptions;
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.common.response.astro.CraftResponse;
+import com.dev.org.common.response.astro.CraftsResponse;
+import com.dev.org.service.AstronautCraftService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+
+/**
+ * Groups astronauts by craft through an immutable index. The index is rebuilt only when the entity
+ * tag of the cached {@link AstronautsResponse} changes, so a lookup is a version check and a hash
+ * map get. Concurrent rebuilds after a change are harmless: each produces the same index and the
+ * last one wins.
+ */
+@Service
+public class AstronautCraftServiceImpl implements AstronautCraftService {
+
+    private final AstroClient astroClient;
+    private volatile CraftIndex index = CraftIndex.EMPTY;
+
+    public AstronautCraftServiceImpl(AstroClient astroClient) {
+        this.astroClient = astroClient;
+    }
+
+    @Override
+    public Versioned<CraftsResponse> getCrafts() {
+        CraftIndex current = currentIndex();
+        return new Versioned<>(current.all(), current.etag());
+    }
+
+    @Override
+    public Versioned<CraftResponse> getCraft(String craft) {
+        CraftIndex current = currentIndex();
+        CraftResponse response = current.byCraft().get(key(craft));
+        if (response == null) {
+            return ApplicationExceptions.notFound("Craft", craft);
+        }
+        return new Versioned<>(response, current.etag());
+    }
+
+    private CraftIndex currentIndex() {
+        Versioned<AstronautsResponse> astronauts = astroClient.getVersionedAstronauts();
+        CraftIndex current = index;
+        if (current.etag() != null && current.etag().equals(astronauts.etag())) {
+            return current;
+        }
+        CraftIndex rebuilt = CraftIndex.of(astronauts);
+        index = rebuilt;
+        return rebuilt;
+    }
+
+    private static String key(String craft) {
+        return craft.toLowerCase(Locale.ROOT);
+    }
+
+    private record CraftIndex(String etag, CraftsResponse all, Map<String, CraftResponse> byCraft) {
+
+        static final CraftIndex EMPTY =
+                new CraftIndex(null, new CraftsResponse(List.of(), 0), Map.of());
+
+        static CraftIndex of(Versioned<AstronautsResponse> astronauts) {
+            // an upstream answer without a body counts as nobody aboard
+            AstronautsResponse response = astronauts.value();
+            List<Astronaut> people =
+                    response == null
+                            ? List.of()
+                            : Objects.requireNonNullElse(response.getPeople(), List.of());
+            Map<String, String> names = new LinkedHashMap<>();
+            Map<String, List<Astronaut>> grouped = new LinkedHashMap<>();
+            for (Astronaut astronaut : people) {
+                String craft = Objects.requireNonNullElse(astronaut.getCraft(), "");
+                names.putIfAbsent(key(craft), craft);
+                grouped.computeIfAbsent(key(craft), k -> new ArrayList<>()).add(astronaut);
+            }
+
+            Map<String, CraftResponse> byCraft = new LinkedHashMap<>();
+            grouped.forEach(
+                    (key, aboard) ->
+                            byCraft.put(
+                                    key,
+                                    new CraftResponse(
+                                            names.get(key), aboard.size(), List.copyOf(aboard))));
+            return new CraftIndex(
+                    astronauts.etag(),
+                    new CraftsResponse(List.copyOf(byCraft.values()), people.size()),
+                    Map.copyOf(byCraft));
+        }
+    }
+}
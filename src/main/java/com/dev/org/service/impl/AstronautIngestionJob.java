@@ -0,0 +1,48 @@
+package com.dev.org.service.impl;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.service.AstronautSnapshotService;
+import com.dev.org.service.AstronautSnapshotService.SnapshotDiff;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically records the upstream astronaut feed. Reads go through the caching client, so a run
+ * inside the cache TTL does not reach the upstream at all.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ingestion.astronauts.enabled", havingValue = "true")
+public class AstronautIngestionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AstronautIngestionJob.class);
+
+    private final AstroClient astroClient;
+    private final AstronautSnapshotService snapshotService;
+
+    public AstronautIngestionJob(
+            AstroClient astroClient, AstronautSnapshotService snapshotService) {
+        this.astroClient = astroClient;
+        this.snapshotService = snapshotService;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.ingestion.astronauts.initial-delay}",
+            fixedDelayString = "${app.ingestion.astronauts.interval}")
+    public void ingest() {
+        try {
+            SnapshotDiff diff = snapshotService.record(astroClient.getAstronauts());
+            if (!diff.isEmpty()) {
+                log.info(
+                        "astronaut snapshot recorded: {} joined, {} left",
+                        diff.joined(),
+                        diff.left());
+            }
+        } catch (ApplicationException ex) {
+            log.warn("astronaut ingestion skipped: {}", ex.getApplicationError());
+        }
+    }
+}
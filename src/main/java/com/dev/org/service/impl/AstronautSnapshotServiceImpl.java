@@ -0,0 +1,158 @@
+package com.dev.org.service.impl;
+
+import com.dev.org.common.dto.HistoryCursor;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautSnapshotResponse;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.entity.AstronautEntity;
+import com.dev.org.entity.AstronautSnapshotEntity;
+import com.dev.org.repository.AstronautRepository;
+import com.dev.org.repository.AstronautSnapshotRepository;
+import com.dev.org.service.AstronautSnapshotService;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores the astronaut feed as membership intervals. Each run loads the open intervals, inserts
+ * one row per person who appeared and closes the interval of each person who disappeared, so an
+ * unchanged feed costs a single select.
+ *
+ * <p>Ids come from sequences with an allocation size of 50 and inserts are ordered, so Hibernate
+ * sends new rows as JDBC batches of {@code hibernate.jdbc.batch_size}; closed intervals are flushed
+ * as batched updates the same way.
+ *
+ * <p>History pages are read with keyset pagination: one row more than requested is fetched to
+ * learn whether another page follows, and the cursor is the key of the last row streamed.
+ */
+@Service
+public class AstronautSnapshotServiceImpl implements AstronautSnapshotService {
+
+    private static final String SUCCESS = "success";
+
+    private final AstronautRepository astronautRepository;
+    private final AstronautSnapshotRepository snapshotRepository;
+    private final Clock clock;
+
+    @Autowired
+    public AstronautSnapshotServiceImpl(
+            AstronautRepository astronautRepository,
+            AstronautSnapshotRepository snapshotRepository) {
+        this(astronautRepository, snapshotRepository, Clock.systemUTC());
+    }
+
+    AstronautSnapshotServiceImpl(
+            AstronautRepository astronautRepository,
+            AstronautSnapshotRepository snapshotRepository,
+            Clock clock) {
+        this.astronautRepository = astronautRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional
+    public SnapshotDiff record(AstronautsResponse response) {
+        if (response == null) {
+            return SnapshotDiff.NONE;
+        }
+        List<AstronautEntity> current = astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc();
+        Map<Member, AstronautEntity> aboard = HashMap.newHashMap(current.size());
+        for (AstronautEntity astronaut : current) {
+            aboard.put(new Member(astronaut.getName(), astronaut.getCraft()), astronaut);
+        }
+
+        Set<Member> upstream = new LinkedHashSet<>();
+        List<Astronaut> people = Objects.requireNonNullElse(response.getPeople(), List.of());
+        for (Astronaut astronaut : people) {
+            upstream.add(Member.of(astronaut));
+        }
+
+        List<Member> joined = new ArrayList<>();
+        for (Member member : upstream) {
+            if (aboard.remove(member) == null) {
+                joined.add(member);
+            }
+        }
+        // whatever is left in the map is no longer reported by the upstream
+        if (joined.isEmpty() && aboard.isEmpty()) {
+            return SnapshotDiff.NONE;
+        }
+
+        AstronautSnapshotEntity snapshot =
+                snapshotRepository.save(
+                        new AstronautSnapshotEntity(clock.instant(), upstream.size()));
+        List<AstronautEntity> inserts = new ArrayList<>(joined.size());
+        for (Member member : joined) {
+            inserts.add(new AstronautEntity(member.name(), member.craft(), snapshot));
+        }
+        astronautRepository.saveAll(inserts);
+        aboard.values().forEach(astronaut -> astronaut.leave(snapshot));
+        return new SnapshotDiff(joined.size(), aboard.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AstronautsResponse> currentAstronauts() {
+        List<AstronautEntity> current = astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc();
+        if (current.isEmpty() && snapshotRepository.count() == 0) {
+            return Optional.empty();
+        }
+        List<Astronaut> people = new ArrayList<>(current.size());
+        for (AstronautEntity astronaut : current) {
+            people.add(new Astronaut(astronaut.getName(), astronaut.getCraft()));
+        }
+        return Optional.of(new AstronautsResponse(people, people.size(), SUCCESS));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String streamHistory(String cursor, int size, Consumer<AstronautSnapshotResponse> sink) {
+        // one extra row tells whether a next page exists without a count query
+        Limit limit = Limit.of(size + 1);
+        HistoryCursor after = cursor == null ? null : HistoryCursor.decode(cursor);
+        try (Stream<AstronautSnapshotResponse> rows = historyPage(after, limit)) {
+            Iterator<AstronautSnapshotResponse> page = rows.iterator();
+            int streamed = 0;
+            while (page.hasNext()) {
+                AstronautSnapshotResponse row = page.next();
+                sink.accept(row);
+                if (++streamed == size) {
+                    return page.hasNext()
+                            ? new HistoryCursor(row.fetchedAt(), row.id()).encode()
+                            : null;
+                }
+            }
+            return null;
+        }
+    }
+
+    private Stream<AstronautSnapshotResponse> historyPage(HistoryCursor after, Limit limit) {
+        return after == null
+                ? snapshotRepository.streamNewest(limit)
+                : snapshotRepository.streamOlderThan(after.fetchedAt(), after.id(), limit);
+    }
+
+    /** Identity of a stay: the same person on another craft is a different stay. */
+    private record Member(String name, String craft) {
+
+        static Member of(Astronaut astronaut) {
+            return new Member(
+                    Objects.requireNonNullElse(astronaut.getName(), ""),
+                    Objects.requireNonNullElse(astronaut.getCraft(), ""));
+        }
+    }
+}
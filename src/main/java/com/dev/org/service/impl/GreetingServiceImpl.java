@@ -0,0 +1,26 @@
+package com.dev.org.service.impl;
+
+import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.service.GreetingService;
+import java.time.Clock;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GreetingServiceImpl implements GreetingService {
+
+    private final MillisecondTimestamp timestamp;
+
+    public GreetingServiceImpl() {
+        this(Clock.systemUTC());
+    }
+
+    GreetingServiceImpl(Clock clock) {
+        this.timestamp = new MillisecondTimestamp(clock);
+    }
+
+    @Override
+    public HelloResponse greet(String name) {
+        // plain concatenation compiles to an indy string concat; String.format parses the pattern
+        return new HelloResponse("Hello, " + name + "!", timestamp.now(), name);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dev.org.service.impl;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * ISO-8601 rendering of the current instant, formatted at most once per millisecond. Calls within
+ * the same millisecond share one string, so a busy endpoint stops allocating an {@link Instant}
+ * and its text on every request.
+ */
+final class MillisecondTimestamp {
+
+    private final Clock clock;
+    private volatile Snapshot last = new Snapshot(Long.MIN_VALUE, "");
+
+    MillisecondTimestamp(Clock clock) {
+        this.clock = clock;
+    }
+
+    String now() {
+        long millis = clock.millis();
+        Snapshot current = last;
+        if (current.millis() == millis) {
+            return current.text();
+        }
+        String text = Instant.ofEpochMilli(millis).toString();
+        last = new Snapshot(millis, text);
+        return text;
+    }
+
+    private record Snapshot(long millis, String text) {}
+}
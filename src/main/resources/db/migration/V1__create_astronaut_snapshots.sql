@@ -0,0 +1,24 @@
+-- Upstream astronaut data, stored as membership intervals.
+-- A snapshot row is written only when an ingestion run sees people join or leave; each astronaut
+-- row records the snapshot that first saw the person aboard a craft and, once gone, the snapshot
+-- that no longer did. The current crew is every row with no left_snapshot_id.
+
+-- Increments match the JPA allocation size, so Hibernate reserves 50 ids per round trip
+CREATE SEQUENCE astronaut_snapshot_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE astronaut_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE astronaut_snapshot (
+    id               BIGINT                   NOT NULL PRIMARY KEY,
+    fetched_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    number_of_people INTEGER                  NOT NULL
+);
+
+CREATE TABLE astronaut (
+    id                 BIGINT       NOT NULL PRIMARY KEY,
+    name               VARCHAR(255) NOT NULL,
+    craft              VARCHAR(255) NOT NULL,
+    joined_snapshot_id BIGINT       NOT NULL REFERENCES astronaut_snapshot (id),
+    left_snapshot_id   BIGINT       REFERENCES astronaut_snapshot (id)
+);
+
+CREATE INDEX ix_astronaut_left_snapshot ON astronaut (left_snapshot_id);
@@ -0,0 +1,2 @@
+-- Keyset pagination of the snapshot history: newest first on (fetched_at, id), scanned backwards
+CREATE INDEX ix_astronaut_snapshot_fetched_at_id ON astronaut_snapshot (fetched_at, id);
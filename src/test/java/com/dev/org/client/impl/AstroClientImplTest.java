@@ -0,0 +1,224 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.org.client.impl.setup.ServiceClientTestData;
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.common.exception.ServerError;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.HttpClientProperties;
+import com.dev.org.config.HttpTransportFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+class AstroClientImplTest {
+
+    private static final int CALLERS = 1_000;
+    private static final byte[] ASTROS_JSON =
+            """
+            {"message": "success", "number": 1, "people": [{"name": "Jane", "craft": "ISS"}]}
+            """
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceRegistry resilienceRegistry = new ResilienceRegistry(meterRegistry);
+    private final AtomicInteger upstreamHits = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpTransportFactory transportFactory = new HttpTransportFactory(meterRegistry);
+
+    private final Queue<Integer> upstreamStatuses = new ConcurrentLinkedQueue<>();
+    private final Queue<String> ifNoneMatchReceived = new ConcurrentLinkedQueue<>();
+    private volatile boolean holdFirstResponse;
+    private volatile String upstreamETag;
+    private HttpServer server;
+    private AstroClientImpl client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/astros.json", this::handleAstros);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpClientProperties.Client properties = ServiceClientTestData.client(baseUrl);
+        client =
+                new AstroClientImpl(
+                        RestClient.builder()
+                                .baseUrl(baseUrl)
+                                .requestFactory(
+                                        transportFactory.create(
+                                                "mock-api-client", properties.transport()))
+                                .build(),
+                        new ObjectMapper(),
+                        properties,
+                        resilienceRegistry,
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transportFactory.destroy();
+        server.stop(0);
+        serverExecutor.close();
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneUpstreamRequest() throws Exception {
+        holdFirstResponse = true;
+        List<Future<AstronautsResponse>> results = new ArrayList<>(CALLERS);
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(client::getAstronauts));
+            }
+        }
+
+        AstronautsResponse first = results.getFirst().get(30, TimeUnit.SECONDS);
+        for (Future<AstronautsResponse> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(first.getPeople()).hasSize(1);
+        assertThat(upstreamHits).hasValue(1);
+        assertThat(coalescedCalls()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void sequentialCallsAreNotCoalesced() {
+        client.getAstronauts();
+        client.getAstronauts();
+
+        assertThat(upstreamHits).hasValue(2);
+        assertThat(coalescedCalls()).isZero();
+    }
+
+    @Test
+    void retriesTransientUpstreamErrors() {
+        upstreamStatuses.addAll(List.of(503, 502));
+
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(1);
+        assertThat(upstreamHits).hasValue(3);
+        assertThat(meterRegistry.get("service.client.retries").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void mapsExhaustedRetriesToRemoteServiceError() {
+        upstreamStatuses.addAll(List.of(503, 503, 503));
+
+        assertThatThrownBy(client::getAstronauts)
+                .isInstanceOfSatisfying(
+                        ApplicationException.class,
+                        ex ->
+                                assertThat(ex.getApplicationError())
+                                        .isInstanceOf(ServerError.RemoteServiceError.class));
+        assertThat(upstreamHits).hasValue(3);
+    }
+
+    @Test
+    void revalidatesWithETagAndReusesBodyOnNotModified() {
+        upstreamETag = "\"v1\"";
+
+        AstronautsResponse first = client.getAstronauts();
+        AstronautsResponse second = client.getAstronauts();
+
+        assertThat(second).isSameAs(first);
+        assertThat(ifNoneMatchReceived).containsExactly("\"v1\"");
+        assertThat(meterRegistry.get("service.client.not.modified").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void streamsPeopleAndReleasesBulkheadOnClose() {
+        try (Stream<Astronaut> people = client.streamAstronauts()) {
+            assertThat(bulkhead().getAvailableCalls()).isEqualTo(49);
+            assertThat(people.map(Astronaut::getName)).containsExactly("Jane");
+        }
+        assertThat(bulkhead().getAvailableCalls()).isEqualTo(50);
+    }
+
+    @Test
+    void mapsStreamErrorStatusToRemoteServiceError() {
+        upstreamStatuses.add(503);
+
+        assertThatThrownBy(client::streamAstronauts)
+                .isInstanceOfSatisfying(
+                        ApplicationException.class,
+                        ex ->
+                                assertThat(ex.getApplicationError())
+                                        .isInstanceOf(ServerError.RemoteServiceError.class));
+        assertThat(upstreamHits).hasValue(1);
+        assertThat(bulkhead().getAvailableCalls()).isEqualTo(50);
+    }
+
+    private Bulkhead bulkhead() {
+        return resilienceRegistry.getBulkhead("mock-api-client");
+    }
+
+    private void handleAstros(HttpExchange exchange) throws IOException {
+        if (upstreamHits.incrementAndGet() == 1 && holdFirstResponse) {
+            awaitCoalescedCallers();
+        }
+        Integer status = upstreamStatuses.poll();
+        if (status != null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            ifNoneMatchReceived.add(ifNoneMatch);
+            if (ifNoneMatch.equals(upstreamETag)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+        }
+        if (upstreamETag != null) {
+            exchange.getResponseHeaders().add("ETag", upstreamETag);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, ASTROS_JSON.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(ASTROS_JSON);
+        }
+    }
+
+    /** Holds the first upstream response until every other caller has joined the call. */
+    private void awaitCoalescedCallers() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (coalescedCalls() < CALLERS - 1 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private double coalescedCalls() {
+        return meterRegistry.get("service.client.coalesced").counter().count();
+    }
+}
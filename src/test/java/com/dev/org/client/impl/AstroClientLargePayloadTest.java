@@ -0,0 +1,132 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.client.impl.setup.ServiceClientTestData;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.config.HttpClientProperties;
+import com.dev.org.config.HttpTransportFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Streams a payload several times larger than the heap. Run by the {@code largePayloadTest} task,
+ * which forks the JVM with a 64 MB heap; materializing the response there fails with an
+ * OutOfMemoryError.
+ */
+@Tag("large-payload")
+class AstroClientLargePayloadTest {
+
+    private static final int PEOPLE = 7_500_000;
+    private static final int CRAFT_EVERY = 10;
+
+    private final AtomicLong payloadBytes = new AtomicLong();
+    private final ExecutorService serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpTransportFactory transportFactory = new HttpTransportFactory(meterRegistry);
+
+    private HttpServer server;
+    private AstroClientImpl client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/astros.json", this::handleAstros);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpClientProperties.Client properties = ServiceClientTestData.client(baseUrl);
+        client =
+                new AstroClientImpl(
+                        RestClient.builder()
+                                .baseUrl(baseUrl)
+                                .requestFactory(
+                                        transportFactory.create(
+                                                "mock-api-client", properties.transport()))
+                                .build(),
+                        new ObjectMapper(),
+                        properties,
+                        new ResilienceRegistry(meterRegistry),
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transportFactory.destroy();
+        server.stop(0);
+        serverExecutor.close();
+    }
+
+    @Test
+    @Timeout(value = 2, unit = TimeUnit.MINUTES)
+    void filtersPayloadLargerThanHeapWithoutMaterializingIt() {
+        long onTiangong;
+        try (Stream<Astronaut> people = client.streamAstronauts()) {
+            onTiangong = people.filter(person -> "Tiangong".equals(person.getCraft())).count();
+        }
+
+        assertThat(onTiangong).isEqualTo(PEOPLE / CRAFT_EVERY);
+        assertThat(payloadBytes.get()).isGreaterThan(4 * Runtime.getRuntime().maxMemory());
+    }
+
+    /** Writes the payload as it is generated, with chunked transfer encoding. */
+    private void handleAstros(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (Writer body =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new CountingOutputStream(exchange.getResponseBody()),
+                                StandardCharsets.UTF_8),
+                        64 * 1024)) {
+            body.write("{\"message\": \"success\", \"number\": " + PEOPLE + ", \"people\": [");
+            for (int i = 0; i < PEOPLE; i++) {
+                if (i > 0) {
+                    body.write(',');
+                }
+                body.write("{\"name\": \"Astronaut ");
+                body.write(Integer.toString(i));
+                body.write("\", \"craft\": \"");
+                body.write(i % CRAFT_EVERY == 0 ? "Tiangong" : "ISS");
+                body.write("\"}");
+            }
+            body.write("]}");
+        }
+    }
+
+    private final class CountingOutputStream extends FilterOutputStream {
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            payloadBytes.addAndGet(len);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.org.client.impl.setup.ServiceClientTestData;
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.common.exception.ServerError;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncAstroClientImplTest {
+
+    private static final byte[] ASTROS_JSON =
+            """
+            {"message": "success", "number": 1, "people": [{"name": "Jane", "craft": "ISS"}]}
+            """
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceRegistry resilienceRegistry = new ResilienceRegistry(meterRegistry);
+    private final AtomicInteger upstreamHits = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private volatile int upstreamStatus = 200;
+    private HttpServer server;
+    private AsyncAstroClientImpl client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/astros.json", this::handleAstros);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client =
+                new AsyncAstroClientImpl(
+                        httpClient,
+                        new ObjectMapper(),
+                        ServiceClientTestData.client(baseUrl),
+                        resilienceRegistry,
+                        meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.close();
+        httpClient.close();
+    }
+
+    @Test
+    void completesConcurrentCallsWithoutCoalescing() throws Exception {
+        List<CompletableFuture<AstronautsResponse>> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            calls.add(client.getAstronautsAsync());
+        }
+
+        for (CompletableFuture<AstronautsResponse> call : calls) {
+            assertThat(call.get(10, TimeUnit.SECONDS).getPeople()).hasSize(1);
+        }
+        assertThat(upstreamHits).hasValue(20);
+        assertThat(resilienceRegistry.getBulkhead("mock-api-client").getAvailableCalls())
+                .isEqualTo(50);
+    }
+
+    @Test
+    void mapsErrorStatusToRemoteServiceError() {
+        upstreamStatus = 503;
+
+        assertRemoteServiceError(client.getAstronautsAsync());
+    }
+
+    @Test
+    void mapsConnectionFailureToRemoteServiceError() {
+        server.stop(0);
+
+        assertRemoteServiceError(client.getAstronautsAsync());
+    }
+
+    private static void assertRemoteServiceError(CompletableFuture<AstronautsResponse> call) {
+        assertThatThrownBy(() -> call.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(
+                        ApplicationException.class,
+                        ex ->
+                                assertThat(ex.getApplicationError())
+                                        .isInstanceOf(ServerError.RemoteServiceError.class));
+    }
+
+    private void handleAstros(HttpExchange exchange) throws IOException {
+        upstreamHits.incrementAndGet();
+        if (upstreamStatus != 200) {
+            exchange.sendResponseHeaders(upstreamStatus, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, ASTROS_JSON.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(ASTROS_JSON);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.event.DataRefreshedEvent;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.AstroCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingAstroClientTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private volatile boolean upstreamDown;
+
+    private CachingAstroClient client;
+
+    @BeforeEach
+    void setUp() {
+        AstroClient upstream =
+                () -> {
+                    if (upstreamDown) {
+                        throw new IllegalStateException("upstream down");
+                    }
+                    int call = upstreamCalls.incrementAndGet();
+                    return new AstronautsResponse(List.of(), call, "success");
+                };
+        var properties = new AstroCacheProperties(Duration.ofSeconds(60), Duration.ofMinutes(10));
+        client =
+                new CachingAstroClient(
+                        upstream, properties, meterRegistry, events::add, clock, Runnable::run);
+    }
+
+    @Test
+    void servesFromCacheWithinTtl() {
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(1);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void servesStaleAndRefreshesInBackground() {
+        client.getAstronauts();
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(1);
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(2);
+        assertThat(count("stale")).isEqualTo(1);
+    }
+
+    @Test
+    void keepsStaleResponseWhenBackgroundRefreshFails() {
+        client.getAstronauts();
+        clock.advance(Duration.ofMinutes(5));
+        upstreamDown = true;
+
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(1);
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void blocksOnUpstreamOnceStaleWindowHasPassed() {
+        client.getAstronauts();
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThat(client.getAstronauts().getNumber()).isEqualTo(2);
+        assertThat(count("miss")).isEqualTo(2);
+
+        clock.advance(Duration.ofMinutes(11));
+        upstreamDown = true;
+        assertThatThrownBy(client::getAstronauts).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void tagsCachedResponseWithContentETag() {
+        var first = client.getVersionedAstronauts();
+        var cached = client.getVersionedAstronauts();
+        clock.advance(Duration.ofMinutes(11));
+        var reloaded = client.getVersionedAstronauts();
+
+        assertThat(first.etag()).startsWith("W/\"").isEqualTo(cached.etag());
+        assertThat(cached.value()).isSameAs(first.value());
+        assertThat(reloaded.etag()).isNotEqualTo(first.etag());
+        assertThat(events).containsExactly(new DataRefreshedEvent(AstroClient.DATA_SET));
+    }
+
+    @Test
+    void eTagDependsOnContentOnly() {
+        var jane = List.of(new Astronaut("Jane", "ISS"));
+
+        assertThat(CachingAstroClient.etagOf(new AstronautsResponse(jane, 1, "success")))
+                .isEqualTo(
+                        CachingAstroClient.etagOf(
+                                new AstronautsResponse(
+                                        List.of(new Astronaut("Jane", "ISS")), 1, "success")))
+                .isNotEqualTo(
+                        CachingAstroClient.etagOf(
+                                new AstronautsResponse(
+                                        List.of(new Astronaut("Jan", "eISS")), 1, "success")));
+    }
+
+    @Test
+    void tagsEmptyUpstreamBody() {
+        assertThat(CachingAstroClient.etagOf(null))
+                .startsWith("W/\"")
+                .isNotEqualTo(CachingAstroClient.etagOf(new AstronautsResponse(List.of(), 0, "")));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("astro.client.cache").tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
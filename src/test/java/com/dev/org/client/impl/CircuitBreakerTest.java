@@ -0,0 +1,88 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.client.impl.CircuitBreaker.State;
+import com.dev.org.config.HttpClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final CircuitBreaker breaker =
+            new CircuitBreaker(
+                    "test-service",
+                    new HttpClientProperties.CircuitBreaker(
+                            true, 10, 4, 50, Duration.ofSeconds(30), 2),
+                    new SimpleMeterRegistry(),
+                    nanoTime::get);
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        recordFailures(3);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        recordFailures(2);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void oldOutcomesSlideOutOfTheWindow() {
+        recordFailures(1);
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess();
+        }
+
+        assertThat(breaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    void closesAfterSuccessfulTrialCalls() {
+        recordFailures(4);
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getTransitions())
+                .containsEntry(State.OPEN, 1L)
+                .containsEntry(State.HALF_OPEN, 1L)
+                .containsEntry(State.CLOSED, 1L);
+    }
+
+    @Test
+    void reopensWhenTrialCallFails() {
+        recordFailures(4);
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void recordFailures(int count) {
+        for (int i = 0; i < count; i++) {
+            breaker.onFailure();
+        }
+    }
+}
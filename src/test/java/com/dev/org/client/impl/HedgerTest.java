@@ -0,0 +1,57 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.config.HttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class HedgerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Hedger hedger =
+            new Hedger(
+                    "test-service",
+                    new HttpClientProperties.Hedging(
+                            true, 0.95, Duration.ofMillis(1), Duration.ofMillis(50), 5, 5),
+                    meterRegistry);
+
+    @Test
+    void fastAttemptIsNotHedged() {
+        assertThat(hedger.call(() -> "first")).isEqualTo("first");
+        assertThat(count("service.client.hedges")).isZero();
+    }
+
+    @Test
+    void slowAttemptIsHedgedAndLoserCancelled() throws InterruptedException {
+        var attempts = new AtomicInteger();
+        var loserInterrupted = new CountDownLatch(1);
+        Supplier<String> attempt =
+                () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        try {
+                            Thread.sleep(Duration.ofSeconds(10));
+                        } catch (InterruptedException ex) {
+                            loserInterrupted.countDown();
+                        }
+                        return "slow";
+                    }
+                    return "hedge";
+                };
+
+        assertThat(hedger.call(attempt)).isEqualTo("hedge");
+        assertThat(loserInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("service.client.hedges")).isEqualTo(1);
+        assertThat(count("service.client.hedge.wins")).isEqualTo(1);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
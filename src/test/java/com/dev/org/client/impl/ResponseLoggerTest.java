@@ -0,0 +1,106 @@
+package com.dev.org.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.dev.org.config.HttpClientProperties.ResponseLogging;
+import com.dev.org.config.HttpClientProperties.ResponseLogging.Mode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class ResponseLoggerTest {
+
+    private static final List<String> RESPONSE = new ArrayList<>(List.of("Jane", "Li"));
+    private static final long ELAPSED = TimeUnit.MILLISECONDS.toNanos(42);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ResponseLogger.class);
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private Level level;
+
+    @BeforeEach
+    void setUp() {
+        level = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        events.start();
+        logger.addAppender(events);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(events);
+        logger.setLevel(level);
+    }
+
+    @Test
+    void offRecordsAndLogsNothing() {
+        responseLogger(Mode.OFF, 1.0).record(RESPONSE, 2, ELAPSED);
+
+        assertThat(meterRegistry.get("service.client.response.size").summary().count()).isZero();
+        assertThat(meterRegistry.get("service.client.response.latency").timer().count()).isZero();
+        assertThat(events.list).isEmpty();
+    }
+
+    @Test
+    void summaryLogsTypeSizeAndLatencyWithoutBody() {
+        responseLogger(Mode.SUMMARY, 1.0).record(RESPONSE, 2, ELAPSED);
+
+        assertThat(meterRegistry.get("service.client.response.size").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("service.client.response.latency").timer().count())
+                .isEqualTo(1);
+        assertThat(events.list)
+                .singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .isEqualTo("response from astro: type=ArrayList size=2 latencyMs=42");
+    }
+
+    @Test
+    void fullAlsoLogsBody() {
+        responseLogger(Mode.FULL, 1.0).record(RESPONSE, 2, ELAPSED);
+
+        assertThat(events.list)
+                .singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .isEqualTo(
+                        "response from astro: type=ArrayList size=2 latencyMs=42 body=[Jane, Li]");
+    }
+
+    @Test
+    void zeroSampleRateStillRecordsMetrics() {
+        ResponseLogger responseLogger = responseLogger(Mode.FULL, 0.0);
+        for (int i = 0; i < 100; i++) {
+            responseLogger.record(RESPONSE, 2, ELAPSED);
+        }
+
+        assertThat(meterRegistry.get("service.client.response.size").summary().count())
+                .isEqualTo(100);
+        assertThat(events.list).isEmpty();
+    }
+
+    @Test
+    void partialSampleRateLogsSomeResponses() {
+        ResponseLogger responseLogger = responseLogger(Mode.SUMMARY, 0.5);
+        for (int i = 0; i < 1_000; i++) {
+            responseLogger.record(RESPONSE, 2, ELAPSED);
+        }
+
+        assertThat(meterRegistry.get("service.client.response.size").summary().count())
+                .isEqualTo(1_000);
+        assertThat(events.list).hasSizeBetween(350, 650);
+    }
+
+    private ResponseLogger responseLogger(Mode mode, double sampleRate) {
+        return new ResponseLogger("astro", new ResponseLogging(mode, sampleRate), meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.dev.org.client.impl.setup;
+
+import com.dev.org.config.HttpClientProperties;
+import com.dev.org.config.HttpClientProperties.ResponseLogging;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/** Service client settings for tests, mirroring the defaults bound from application.yml. */
+public final class ServiceClientTestData {
+
+    private ServiceClientTestData() {}
+
+    public static HttpClientProperties.Client client(String baseUrl) {
+        return new HttpClientProperties.Client(
+                baseUrl,
+                new HttpClientProperties.Transport(
+                        100,
+                        50,
+                        Duration.ofSeconds(2),
+                        Duration.ofSeconds(5),
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(30),
+                        Duration.ofMinutes(5),
+                        false),
+                new ResponseLogging(ResponseLogging.Mode.SUMMARY, 0.0),
+                new HttpClientProperties.CircuitBreaker(
+                        true, 50, 20, 50, Duration.ofSeconds(30), 5),
+                new HttpClientProperties.Bulkhead(true, 50, Duration.ZERO),
+                new HttpClientProperties.Retry(
+                        3,
+                        Duration.ofMillis(1),
+                        Duration.ofMillis(10),
+                        Set.of(502, 503, 504),
+                        List.of(IOException.class),
+                        10,
+                        10),
+                new HttpClientProperties.Hedging(
+                        false, 0.95, Duration.ofMillis(20), Duration.ofSeconds(1), 5, 5));
+    }
+}
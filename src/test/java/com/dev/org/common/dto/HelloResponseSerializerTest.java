@@ -0,0 +1,29 @@
+package com.dev.org.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class HelloResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesSameJsonAsBeanSerializer() throws JsonProcessingException {
+        var response = new HelloResponse("Hello, \"Jane\"!", "2025-01-01T12:00:00.123Z", "Jane");
+
+        assertThat(objectMapper.writeValueAsString(response))
+                .isEqualTo(
+                        "{\"message\":\"Hello, \\\"Jane\\\"!\","
+                                + "\"timestamp\":\"2025-01-01T12:00:00.123Z\",\"name\":\"Jane\"}");
+    }
+
+    @Test
+    void writesNullFields() throws JsonProcessingException {
+        var response = new HelloResponse("Hello, null!", "2025-01-01T12:00:00Z", null);
+
+        assertThat(objectMapper.writeValueAsString(response)).endsWith(",\"name\":null}");
+    }
+}
@@ -0,0 +1,56 @@
+package com.dev.org.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StackTracePolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    @Test
+    void clientErrorsAreStacklessByDefault() {
+        assertThat(thrown(() -> ApplicationExceptions.notFound("Craft", "Nope")).getStackTrace())
+                .isEmpty();
+        assertThat(thrown(() -> ApplicationExceptions.badRequest("bad")).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void serverErrorsKeepTheirStackTrace() {
+        assertThat(thrown(() -> ApplicationExceptions.internalError("boom")).getStackTrace())
+                .isNotEmpty();
+        assertThat(thrown(() -> ApplicationExceptions.remoteServiceError("astro", "down")))
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isNotEmpty());
+    }
+
+    @Test
+    void configuresStacklessErrorsByName() {
+        StackTracePolicy.configure(List.of("Conflict"));
+
+        assertThat(thrown(() -> ApplicationExceptions.notFound("Craft", "Nope")).getStackTrace())
+                .isNotEmpty();
+        assertThat(thrown(() -> ApplicationExceptions.conflict("taken")).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void rejectsServerErrorNames() {
+        assertThatThrownBy(() -> StackTracePolicy.configure(List.of("InternalError")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("NotFound");
+    }
+
+    private static ApplicationException thrown(Runnable raise) {
+        try {
+            raise.run();
+        } catch (ApplicationException ex) {
+            return ex;
+        }
+        throw new AssertionError("nothing thrown");
+    }
+}
@@ -0,0 +1,74 @@
+package com.dev.org.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.common.dto.HistoryCursor;
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.common.exception.ClientError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FastValidatorsTest {
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void findsGeneratedValidatorOfConstrainedRecord() {
+        assertThat(FastValidators.forType(HelloResponse.class)).isPresent();
+        assertThat(FastValidators.forType(HistoryCursor.class)).isEmpty();
+        assertThat(FastValidators.forType(String.class)).isEmpty();
+    }
+
+    @Test
+    void acceptsValidRecord() {
+        HelloResponse valid = new HelloResponse("Hello, Jane!", "now", "Jane");
+
+        assertThat(FastValidators.requireValid(valid)).isSameAs(valid);
+        assertThat(firstViolation(valid)).isEmpty();
+    }
+
+    @Test
+    void reportsFirstViolationWithBeanValidationMessage() {
+        HelloResponse invalid = new HelloResponse("Hello!", " ", null);
+
+        ConstraintViolation<HelloResponse> expected =
+                validatorFactory.getValidator().validate(invalid).iterator().next();
+        assertThat(firstViolation(invalid))
+                .containsExactly(
+                        Map.entry(expected.getPropertyPath().toString(), expected.getMessage()));
+    }
+
+    @Test
+    void stopsAtFirstViolatedComponent() {
+        assertThat(firstViolation(new HelloResponse(null, "", null)))
+                .containsExactly(Map.entry("message", "must not be blank"));
+    }
+
+    @Test
+    void raisesValidationErrorWithFieldErrors() {
+        assertThatThrownBy(() -> FastValidators.requireValid(new HelloResponse("", "now", null)))
+                .isInstanceOfSatisfying(
+                        ApplicationException.class,
+                        ex ->
+                                assertThat(ex.getApplicationError())
+                                        .isEqualTo(
+                                                new ClientError.Validation(
+                                                        "Validation failed",
+                                                        Map.of("message", "must not be blank"))));
+    }
+
+    private static Map<String, String> firstViolation(HelloResponse response) {
+        return FastValidators.forType(HelloResponse.class).orElseThrow().firstViolation(response);
+    }
+}
@@ -0,0 +1,160 @@
+package com.dev.org.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GovernedDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:governed");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void queuesCallersBeyondPoolSize() throws Exception {
+        GovernedDataSource dataSource = governed(false);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Void> third =
+                    CompletableFuture.runAsync(
+                            () -> {
+                                try (Connection connection = dataSource.getConnection()) {
+                                    assertThat(connection.isValid(1)).isTrue();
+                                } catch (Exception ex) {
+                                    throw new IllegalStateException(ex);
+                                }
+                            },
+                            executor);
+            awaitWaiting(1);
+            assertThat(third).isNotDone();
+
+            first.close();
+            third.get(5, TimeUnit.SECONDS);
+        }
+        second.close();
+
+        assertThat(meterRegistry.get("db.pool.acquire").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("db.pool.usage").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void closingTwiceReleasesOnePermit() throws Exception {
+        GovernedDataSource dataSource = governed(false);
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(meterRegistry.get("db.pool.usage").timer().count()).isEqualTo(1);
+        try (Connection a = dataSource.getConnection();
+                Connection b = dataSource.getConnection()) {
+            assertThat(a).isNotSameAs(b);
+        }
+    }
+
+    @Test
+    void recommendsSizeFromObservedUsage() throws Exception {
+        GovernedDataSource dataSource = governed(false);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        first.close();
+        second.close();
+
+        dataSource.evaluate();
+
+        // two connections busy all the time at 75% target utilization
+        assertThat(dataSource.getRecommendedSize()).isEqualTo(3);
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    void autoTuneAppliesRecommendation() throws Exception {
+        GovernedDataSource dataSource = governed(true);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        first.close();
+        second.close();
+
+        dataSource.evaluate();
+
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+        try (Connection a = dataSource.getConnection();
+                Connection b = dataSource.getConnection();
+                Connection c = dataSource.getConnection()) {
+            assertThat(c.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    void poolWaitIsBoundedByTimeLeftAfterPermit() throws Exception {
+        pool.setConnectionTimeout(1_000);
+        // every clock read is 900ms later: the permit wait leaves 100ms for the pool
+        var clock = new AtomicLong();
+        var dataSource =
+                new GovernedDataSource(
+                        pool,
+                        "test",
+                        properties(false),
+                        meterRegistry,
+                        () -> clock.getAndAdd(TimeUnit.MILLISECONDS.toNanos(900)));
+
+        // a connection held outside the governor leaves a permit free but the pool empty
+        try (Connection outside = pool.getConnection();
+                Connection first = dataSource.getConnection()) {
+            long start = System.nanoTime();
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start))
+                    .isLessThan(Duration.ofMillis(800));
+        }
+    }
+
+    private GovernedDataSource governed(boolean autoTune) {
+        return new GovernedDataSource(
+                pool, "test", properties(autoTune), meterRegistry, nanoTime::get);
+    }
+
+    private static ConnectionPoolGovernorProperties properties(boolean autoTune) {
+        return new ConnectionPoolGovernorProperties(
+                true, autoTune, 0.75, 2, 50, Duration.ofSeconds(30));
+    }
+
+    private void awaitWaiting(int callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("db.pool.waiting").gauge().value() < callers
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.dev.org.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicBoolean replicaUp = new AtomicBoolean(true);
+    private final AtomicInteger replicaAttempts = new AtomicInteger();
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource =
+                new ReadWriteRoutingDataSource(
+                        new DriverManagerDataSource(PRIMARY_URL, "sa", ""),
+                        new FlakyReplica(),
+                        Duration.ofSeconds(30),
+                        meterRegistry,
+                        nanoTime::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void routesWritesToPrimary() throws SQLException {
+        assertThat(connectedUrl()).isEqualTo(PRIMARY_URL);
+        assertThat(replicaAttempts).hasValue(0);
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(connectedUrl()).isEqualTo(REPLICA_URL);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhileReplicaIsDown() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaUp.set(false);
+
+        assertThat(connectedUrl()).isEqualTo(PRIMARY_URL);
+        assertThat(connectedUrl()).isEqualTo(PRIMARY_URL);
+        // the second read did not try the replica again
+        assertThat(replicaAttempts).hasValue(1);
+        assertThat(meterRegistry.get("datasource.replica.fallbacks").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isZero();
+    }
+
+    @Test
+    void returnsToReplicaAfterRetryDelay() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        replicaUp.set(false);
+        connectedUrl();
+
+        replicaUp.set(true);
+        nanoTime.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThat(connectedUrl()).isEqualTo(REPLICA_URL);
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isEqualTo(1);
+    }
+
+    private String connectedUrl() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    /** The replica database, failing while {@link #replicaUp} is false. */
+    private final class FlakyReplica extends AbstractDataSource {
+
+        private final DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            replicaAttempts.incrementAndGet();
+            if (!replicaUp.get()) {
+                throw new SQLException("replica down");
+            }
+            return replica.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
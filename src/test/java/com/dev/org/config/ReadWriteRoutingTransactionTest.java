@@ -0,0 +1,115 @@
+package com.dev.org.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Wires the routing data source as {@link DataSourceRoutingConfig} does and checks the routing
+ * through real {@code @Transactional} methods. The JPA transaction manager prepares the connection
+ * before the read-only flag of the transaction is published, so only the lazy proxy in front of
+ * the router lets read-only work reach the replica.
+ */
+@SpringJUnitConfig
+class ReadWriteRoutingTransactionTest {
+
+    @Autowired private Database database;
+
+    @Test
+    void routesReadOnlyTransactionToReplica() {
+        assertThat(database.readOnly()).isEqualTo("replica");
+    }
+
+    @Test
+    void routesReadWriteTransactionToPrimary() {
+        assertThat(database.readWrite()).isEqualTo("primary");
+    }
+
+    /** Reports which database a transaction ran against. */
+    static class Database {
+
+        @PersistenceContext private EntityManager entityManager;
+
+        @Transactional(readOnly = true)
+        public String readOnly() {
+            return name();
+        }
+
+        @Transactional
+        public String readWrite() {
+            return name();
+        }
+
+        private String name() {
+            return (String)
+                    entityManager.createNativeQuery("SELECT name FROM whoami").getSingleResult();
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(
+                            h2("primary"),
+                            h2("replica"),
+                            Duration.ofSeconds(30),
+                            new SimpleMeterRegistry()));
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            var factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setPackagesToScan(Config.class.getPackageName());
+            factory.setJpaPropertyMap(
+                    Map.of("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        Database database() {
+            return new Database();
+        }
+
+        private static DataSource h2(String name) {
+            var dataSource =
+                    new DriverManagerDataSource(
+                            "jdbc:h2:mem:routing-tx-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+            var jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("CREATE TABLE IF NOT EXISTS whoami (name VARCHAR(16))");
+            jdbc.execute("DELETE FROM whoami");
+            jdbc.update("INSERT INTO whoami VALUES (?)", name);
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.dev.org.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class SampledLoggingInterceptorTest {
+
+    private static final byte[] BODY = "{\"name\":\"Jane\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SampledLoggingInterceptor.class);
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private Level level;
+
+    @BeforeEach
+    void setUp() {
+        level = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        events.start();
+        logger.addAppender(events);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(events);
+        logger.setLevel(level);
+        MDC.clear();
+    }
+
+    @Test
+    void logsEveryRequestAtFullRate() throws IOException {
+        intercept(interceptor(1.0, 512));
+
+        assertThat(events.list).hasSize(1);
+        assertThat(events.list.get(0).getFormattedMessage())
+                .contains(
+                        "method=POST",
+                        "uri=http://upstream/astros.json",
+                        "status=200",
+                        "body={\"name\":\"Jane\"}");
+    }
+
+    @Test
+    void logsNothingAtZeroRate() throws IOException {
+        intercept(interceptor(0.0, 512));
+
+        assertThat(events.list).isEmpty();
+    }
+
+    @Test
+    void logsNothingWhenInfoIsDisabled() throws IOException {
+        logger.setLevel(Level.WARN);
+
+        intercept(interceptor(1.0, 512));
+
+        assertThat(events.list).isEmpty();
+    }
+
+    @Test
+    void samplesAllOrNoneOfATrace() throws IOException {
+        SampledLoggingInterceptor first = interceptor(0.5, 512);
+        SampledLoggingInterceptor second = interceptor(0.5, 512);
+        Random random = new Random(42);
+        int traces = 400;
+        int sampledTraces = 0;
+        for (int i = 0; i < traces; i++) {
+            MDC.put("traceId", String.format("%032x", new BigInteger(128, random)));
+            events.list.clear();
+            for (int call = 0; call < 3; call++) {
+                intercept(first);
+                intercept(second);
+            }
+            assertThat(events.list.size()).isIn(0, 6);
+            if (!events.list.isEmpty()) {
+                sampledTraces++;
+            }
+        }
+
+        assertThat(sampledTraces).isBetween(traces * 35 / 100, traces * 65 / 100);
+    }
+
+    @Test
+    void truncatesBodyToMaxBytes() throws IOException {
+        intercept(interceptor(1.0, 4));
+
+        assertThat(events.list.get(0).getFormattedMessage()).contains("body={\"na...(15 bytes)");
+    }
+
+    @Test
+    void truncatesBeforeACharacterItWouldSplit() {
+        byte[] body = "héllo".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new SampledLoggingInterceptor.TruncatedBody(body, 2))
+                .hasToString("h...(6 bytes)");
+        assertThat(new SampledLoggingInterceptor.TruncatedBody(body, 3))
+                .hasToString("hé...(6 bytes)");
+        assertThat(new SampledLoggingInterceptor.TruncatedBody(body, 6)).hasToString("héllo");
+    }
+
+    private static SampledLoggingInterceptor interceptor(double sampleRate, int maxBodyBytes) {
+        return new SampledLoggingInterceptor(
+                new HttpClientProperties.Logging(sampleRate, maxBodyBytes));
+    }
+
+    private static void intercept(SampledLoggingInterceptor interceptor) throws IOException {
+        interceptor.intercept(
+                new MockClientHttpRequest(
+                        HttpMethod.POST, URI.create("http://upstream/astros.json")),
+                BODY,
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+    }
+}
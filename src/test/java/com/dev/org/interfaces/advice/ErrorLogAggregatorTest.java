@@ -0,0 +1,67 @@
+package com.dev.org.interfaces.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.common.exception.ClientError;
+import com.dev.org.common.exception.ServerError;
+import com.dev.org.config.ApplicationErrorProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ErrorLogAggregatorTest {
+
+    private static final ClientError.NotFound NOT_FOUND = new ClientError.NotFound("Craft", "x");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ErrorLogAggregator aggregator =
+            new ErrorLogAggregator(
+                    new ApplicationErrorProperties(
+                            Set.of(),
+                            new ApplicationErrorProperties.Log(Duration.ofMinutes(1), 3),
+                            new ApplicationErrorProperties.Budget(0.999, Duration.ofHours(1), 12)),
+                    meterRegistry);
+
+    @Test
+    void logsFirstOccurrencesPerRouteAndErrorType() {
+        assertThat(recordTimes(NOT_FOUND, "/astro/crafts/{name}", 5))
+                .containsExactly(true, true, true, false, false);
+
+        assertThat(aggregator.record(NOT_FOUND, "/astro/history")).isTrue();
+        assertThat(aggregator.record(new ClientError.BadRequest("no"), "/astro/crafts/{name}"))
+                .isTrue();
+    }
+
+    @Test
+    void startsNewQuotaAfterFlush() {
+        recordTimes(NOT_FOUND, "/astro/crafts/{name}", 5);
+
+        aggregator.flush();
+
+        assertThat(recordTimes(NOT_FOUND, "/astro/crafts/{name}", 4))
+                .containsExactly(true, true, true, false);
+    }
+
+    @Test
+    void countsEveryOccurrenceByErrorType() {
+        recordTimes(NOT_FOUND, "/astro/crafts/{name}", 5);
+        aggregator.record(new ServerError.DatabaseError("insert", null), "/astro/history");
+
+        assertThat(count("NotFound")).isEqualTo(5);
+        assertThat(count("DatabaseError")).isEqualTo(1);
+        assertThat(meterRegistry.get("application.errors").counters()).hasSize(7);
+    }
+
+    private double count(String error) {
+        return meterRegistry.get("application.errors").tag("error", error).counter().count();
+    }
+
+    private Boolean[] recordTimes(ClientError.NotFound error, String route, int times) {
+        return IntStream.range(0, times)
+                .mapToObj(i -> aggregator.record(error, route))
+                .toArray(Boolean[]::new);
+    }
+}
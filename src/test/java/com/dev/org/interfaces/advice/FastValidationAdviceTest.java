@@ -0,0 +1,87 @@
+package com.dev.org.interfaces.advice;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.config.ApplicationErrorProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/** Reads HelloResponse, the constrained DTO with a generated validator, as a request body. */
+class FastValidationAdviceTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplicationErrorProperties errorProperties =
+                new ApplicationErrorProperties(
+                        Set.of(),
+                        new ApplicationErrorProperties.Log(Duration.ofMinutes(1), 10),
+                        new ApplicationErrorProperties.Budget(0.999, Duration.ofHours(1), 12));
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(new EchoController())
+                        .setControllerAdvice(
+                                new ApplicationExceptionHandler(
+                                        new ProblemRenderer(objectMapper),
+                                        new ErrorLogAggregator(errorProperties, meterRegistry),
+                                        new RouteErrorMetrics(
+                                                errorProperties,
+                                                meterRegistry,
+                                                new StaticListableBeanFactory()
+                                                        .getBeanProvider(
+                                                                RequestMappingHandlerMapping
+                                                                        .class))),
+                                new FastValidationAdvice())
+                        .build();
+    }
+
+    @Test
+    void passesValidBodyToHandler() throws Exception {
+        mockMvc.perform(
+                        post("/echo")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"message\": \"Hello, Jane!\", \"timestamp\": \"now\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Hello, Jane!"));
+    }
+
+    @Test
+    void rejectsInvalidBodyWithFirstViolatedField() throws Exception {
+        mockMvc.perform(
+                        post("/echo")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"message\": \"Hello!\", \"timestamp\": \" \"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.fieldErrors.timestamp").value("must not be blank"));
+    }
+
+    /** Takes the body without {@code @Valid}, so only the fast validator can reject it. */
+    @RestController
+    static class EchoController {
+
+        @PostMapping("/echo")
+        HelloResponse echo(@RequestBody HelloResponse body) {
+            return body;
+        }
+    }
+}
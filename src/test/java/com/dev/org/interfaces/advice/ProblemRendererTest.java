@@ -0,0 +1,86 @@
+package com.dev.org.interfaces.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.common.exception.ApplicationError;
+import com.dev.org.common.exception.ClientError;
+import com.dev.org.common.exception.ServerError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ProblemRendererTest {
+
+    private final ProblemRenderer renderer = new ProblemRenderer(new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void rendersNotFoundWithTemplatedDetail() throws Exception {
+        MDC.put("traceId", "abc123");
+
+        MockHttpServletResponse response =
+                render(new ClientError.NotFound("Craft", "Nope"), "/api/astro/crafts/Nope");
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        assertThat(response.getContentAsString())
+                .isEqualTo(
+                        """
+                        {"type":"about:blank","title":"Not Found","status":404,\
+                        "detail":"Craft with identifier 'Nope' not found",\
+                        "instance":"/api/astro/crafts/Nope","traceId":"abc123",\
+                        "path":"/api/astro/crafts/Nope",\
+                        "resourceType":"Craft","identifier":"Nope"}""");
+    }
+
+    @Test
+    void rendersValidationFieldErrors() throws Exception {
+        MockHttpServletResponse response =
+                render(
+                        new ClientError.Validation("Invalid input", Map.of("name", "too long")),
+                        "/api/hello");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString())
+                .isEqualTo(
+                        """
+                        {"type":"about:blank","title":"Bad Request","status":400,\
+                        "detail":"Invalid input","instance":"/api/hello","path":"/api/hello",\
+                        "fieldErrors":{"name":"too long"}}""");
+    }
+
+    @Test
+    void escapesUserInputInDetail() throws Exception {
+        MockHttpServletResponse response =
+                render(new ClientError.BadRequest("bad \"name\"\n"), "/api/hello/batch");
+
+        assertThat(response.getContentAsString()).contains("\"detail\":\"bad \\\"name\\\"\\n\"");
+    }
+
+    @Test
+    void hidesInternalErrorDetails() throws Exception {
+        MockHttpServletResponse response =
+                render(new ServerError.InternalError("secret", new IllegalStateException()), "/x");
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getContentAsString())
+                .contains("\"detail\":\"An internal error occurred. Please contact support.\"")
+                .doesNotContain("secret");
+    }
+
+    private MockHttpServletResponse render(ApplicationError error, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        renderer.render(error, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,153 @@
+package com.dev.org.interfaces.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.dev.org.common.exception.ClientError;
+import com.dev.org.common.exception.ServerError;
+import com.dev.org.config.ApplicationErrorProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RouteErrorMetricsTest {
+
+    private static final String CRAFTS = "/astro/crafts/{name}";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HandlerMethod handler;
+    private RouteErrorMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics =
+                new RouteErrorMetrics(
+                        new ApplicationErrorProperties(
+                                Set.of(),
+                                new ApplicationErrorProperties.Log(Duration.ofMinutes(1), 10),
+                                new ApplicationErrorProperties.Budget(
+                                        0.99, Duration.ofMinutes(10), 10)),
+                        meterRegistry,
+                        () -> List.of(CRAFTS, "/astro/history"),
+                        nanoTime::get);
+        metrics.afterSingletonsInstantiated();
+        handler = handlerMethod();
+    }
+
+    @Test
+    void registersMetersForEveryRouteAndErrorTypeUpFront() {
+        // two routes plus UNMATCHED, seven error types each
+        assertThat(meterRegistry.get("http.server.errors").counters()).hasSize(21);
+        assertThat(meterRegistry.get("http.server.errors.latency").timers()).hasSize(6);
+        assertThat(
+                        meterRegistry
+                                .get("http.server.errors")
+                                .tags("error", "NotFound", "status", "404", "uri", CRAFTS)
+                                .counter()
+                                .count())
+                .isZero();
+    }
+
+    @Test
+    void recordsErrorCountAndLatencyOnTheMatchedRoute() {
+        MockHttpServletRequest request = request(CRAFTS);
+        metrics.preHandle(request, new MockHttpServletResponse(), handler);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(25));
+
+        metrics.recordError(new ClientError.NotFound("Craft", "x"), CRAFTS, request);
+
+        assertThat(
+                        meterRegistry
+                                .get("http.server.errors")
+                                .tags("error", "NotFound", "uri", CRAFTS)
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+        Timer latency =
+                meterRegistry
+                        .get("http.server.errors.latency")
+                        .tags("outcome", "CLIENT_ERROR", "uri", CRAFTS)
+                        .timer();
+        assertThat(latency.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(25);
+    }
+
+    @Test
+    void unknownRoutesShareTheUnmatchedMeters() {
+        metrics.recordError(
+                new ServerError.DatabaseError("select", "down"), "/not/registered", request(null));
+
+        assertThat(
+                        meterRegistry
+                                .get("http.server.errors")
+                                .tags("error", "DatabaseError", "status", "500", "uri", "UNMATCHED")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void serverErrorsSpendTheRouteBudget() {
+        complete(CRAFTS, 200, 97);
+        complete(CRAFTS, 404, 2);
+        complete(CRAFTS, 503, 1);
+
+        RouteErrorMetrics.RouteErrorBudget budget = metrics.budgets().get(CRAFTS);
+        assertThat(budget.requests()).isEqualTo(100);
+        assertThat(budget.clientErrors()).isEqualTo(2);
+        assertThat(budget.serverErrors()).isEqualTo(1);
+        assertThat(budget.availability()).isCloseTo(0.99, within(1e-9));
+        assertThat(budget.budgetRemaining()).isCloseTo(0.0, within(1e-9));
+        assertThat(metrics.budgets().get("/astro/history").budgetRemaining()).isEqualTo(1.0);
+    }
+
+    @Test
+    void budgetForgetsRequestsOlderThanTheWindow() {
+        complete(CRAFTS, 500, 5);
+        nanoTime.addAndGet(Duration.ofMinutes(5).toNanos());
+        complete(CRAFTS, 200, 5);
+
+        assertThat(metrics.budgets().get(CRAFTS).requests()).isEqualTo(10);
+
+        nanoTime.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        RouteErrorMetrics.RouteErrorBudget budget = metrics.budgets().get(CRAFTS);
+        assertThat(budget.requests()).isEqualTo(5);
+        assertThat(budget.serverErrors()).isZero();
+    }
+
+    private void complete(String route, int status, int times) {
+        for (int i = 0; i < times; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            response.setStatus(status);
+            metrics.afterCompletion(request(route), response, handler, null);
+        }
+    }
+
+    private static MockHttpServletRequest request(String route) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (route != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handlerMethod() {
+        try {
+            return new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.dev.org.interfaces.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dev.org.common.exception.ApplicationExceptions;
+import com.dev.org.common.response.astro.AstronautSnapshotResponse;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.config.ApplicationErrorProperties;
+import com.dev.org.interfaces.advice.ApplicationExceptionHandler;
+import com.dev.org.interfaces.advice.ErrorLogAggregator;
+import com.dev.org.interfaces.advice.ProblemRenderer;
+import com.dev.org.interfaces.advice.RouteErrorMetrics;
+import com.dev.org.service.AstronautSnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class AstroHistoryControllerTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper =
+            Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationErrorProperties errorProperties =
+            new ApplicationErrorProperties(
+                    Set.of(),
+                    new ApplicationErrorProperties.Log(Duration.ofMinutes(1), 10),
+                    new ApplicationErrorProperties.Budget(0.999, Duration.ofHours(1), 12));
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var controller = new AstroHistoryController(new FixedHistory(), objectMapper);
+        var routeErrorMetrics =
+                new RouteErrorMetrics(
+                        errorProperties,
+                        meterRegistry,
+                        new StaticListableBeanFactory()
+                                .getBeanProvider(RequestMappingHandlerMapping.class));
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(controller)
+                        .setControllerAdvice(
+                                new ApplicationExceptionHandler(
+                                        new ProblemRenderer(objectMapper),
+                                        new ErrorLogAggregator(errorProperties, meterRegistry),
+                                        routeErrorMetrics))
+                        .build();
+    }
+
+    @Test
+    void streamsPageWithNextCursor() throws Exception {
+        mockMvc.perform(get("/astro/history").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.snapshots.length()").value(2))
+                .andExpect(jsonPath("$.snapshots[0].id").value(3))
+                .andExpect(jsonPath("$.snapshots[0].fetchedAt").value("2025-01-01T00:00:00Z"))
+                .andExpect(jsonPath("$.snapshots[1].numberOfPeople").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("2"));
+    }
+
+    @Test
+    void followsCursorToLastPage() throws Exception {
+        mockMvc.perform(get("/astro/history").param("cursor", "2").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.snapshots.length()").value(1))
+                .andExpect(jsonPath("$.snapshots[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void rejectsPageSizeOutOfRange() throws Exception {
+        mockMvc.perform(get("/astro/history").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/astro/history").param("size", "10001"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/astro/history").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("malformed cursor"));
+    }
+
+    /** Three snapshots with ids 3, 2, 1, paged by the id to continue below. */
+    private static final class FixedHistory implements AstronautSnapshotService {
+
+        private final List<AstronautSnapshotResponse> snapshots =
+                List.of(
+                        new AstronautSnapshotResponse(3, FETCHED_AT, 3),
+                        new AstronautSnapshotResponse(2, FETCHED_AT, 2),
+                        new AstronautSnapshotResponse(1, FETCHED_AT, 1));
+
+        @Override
+        public SnapshotDiff record(AstronautsResponse response) {
+            return SnapshotDiff.NONE;
+        }
+
+        @Override
+        public Optional<AstronautsResponse> currentAstronauts() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String streamHistory(
+                String cursor, int size, Consumer<AstronautSnapshotResponse> sink) {
+            long below;
+            try {
+                below = cursor == null ? Long.MAX_VALUE : Long.parseLong(cursor);
+            } catch (NumberFormatException ex) {
+                return ApplicationExceptions.badRequest("malformed cursor");
+            }
+            List<AstronautSnapshotResponse> page =
+                    snapshots.stream().filter(s -> s.id() < below).limit(size).toList();
+            page.forEach(sink);
+            long last = page.isEmpty() ? 0 : page.getLast().id();
+            return last > 1 ? Long.toString(last) : null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.dev.org.interfaces.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dev.org.common.dto.HelloResponse;
+import com.dev.org.config.ApplicationErrorProperties;
+import com.dev.org.interfaces.advice.ApplicationExceptionHandler;
+import com.dev.org.interfaces.advice.ErrorLogAggregator;
+import com.dev.org.interfaces.advice.ProblemRenderer;
+import com.dev.org.interfaces.advice.RouteErrorMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class HelloControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationErrorProperties errorProperties =
+            new ApplicationErrorProperties(
+                    Set.of(),
+                    new ApplicationErrorProperties.Log(Duration.ofMinutes(1), 10),
+                    new ApplicationErrorProperties.Budget(0.999, Duration.ofHours(1), 12));
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var controller =
+                new HelloController(
+                        () -> null,
+                        name -> new HelloResponse("Hello, " + name + "!", "now", name),
+                        objectMapper);
+        var routeErrorMetrics =
+                new RouteErrorMetrics(
+                        errorProperties,
+                        meterRegistry,
+                        new StaticListableBeanFactory()
+                                .getBeanProvider(RequestMappingHandlerMapping.class));
+        mockMvc =
+                MockMvcBuilders.standaloneSetup(controller)
+                        .setControllerAdvice(
+                                new ApplicationExceptionHandler(
+                                        new ProblemRenderer(objectMapper),
+                                        new ErrorLogAggregator(errorProperties, meterRegistry),
+                                        routeErrorMetrics))
+                        .build();
+    }
+
+    @Test
+    void streamsNdjsonForJsonArrayInput() throws Exception {
+        int names = 5_000;
+        String body =
+                IntStream.range(0, names)
+                        .mapToObj(i -> "\"n" + i + "\"")
+                        .collect(Collectors.joining(",", "[", "]"));
+
+        String[] lines =
+                mockMvc.perform(
+                                post("/hello/batch")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString()
+                        .split("\n");
+
+        assertThat(lines).hasSize(names);
+        assertThat(objectMapper.readTree(lines[names - 1]).get("message").asText())
+                .isEqualTo("Hello, n4999!");
+    }
+
+    @Test
+    void writesJsonArrayForNdjsonInputWhenOnlyJsonIsAccepted() throws Exception {
+        mockMvc.perform(
+                        post("/hello/batch")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .content("\"Jane\"\n\"Bob\"\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].message").value("Hello, Bob!"));
+    }
+
+    @Test
+    void rejectsNonStringNames() throws Exception {
+        mockMvc.perform(
+                        post("/hello/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[{\"name\": \"Jane\"}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void endsCommittedStreamWithProblemLine() throws Exception {
+        String body =
+                IntStream.range(0, 1_500)
+                        .mapToObj(i -> "\"n" + i + "\"")
+                        .collect(Collectors.joining(",", "[", ",42]"));
+
+        String[] lines =
+                mockMvc.perform(
+                                post("/hello/batch")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString()
+                        .split("\n");
+
+        assertThat(lines).hasSize(1_501);
+        JsonNode problem = objectMapper.readTree(lines[1_500]);
+        assertThat(problem.get("status").asInt()).isEqualTo(400);
+        assertThat(problem.get("detail").asText()).contains("name 1501 is not a JSON string");
+    }
+
+    @Test
+    void rejectsMalformedAcceptHeader() throws Exception {
+        mockMvc.perform(
+                        post("/hello/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.ACCEPT, "application/")
+                                .content("[\"Jane\"]"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,207 @@
+package com.dev.org.interfaces.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.common.event.DataRefreshedEvent;
+import com.dev.org.config.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class CachedResponseInterceptorTest {
+
+    private static final String DATA_SET = "astronauts";
+    private static final String ETAG = "W/\"1a2b\"";
+    private static final byte[] JSON =
+            "{\"number\":1}".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    private ResponseByteCache cache = cache(Duration.ofSeconds(30), 1000);
+    private CachedResponseInterceptor interceptor = new CachedResponseInterceptor(cache);
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        handler = new HandlerMethod(new Controller(), Controller.class.getMethod("astronauts"));
+    }
+
+    @Test
+    void missProceedsToHandlerAndRemembersPendingEntry() throws IOException {
+        MockHttpServletRequest request = get();
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler)).isTrue();
+        assertThat(request.getAttribute(CachedResponseInterceptor.PENDING_ATTRIBUTE))
+                .isInstanceOf(ResponseByteCache.Pending.class);
+    }
+
+    @Test
+    void hitWritesGzippedBytesWithoutCallingHandler() throws IOException {
+        populate();
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, handler)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (var gunzip =
+                new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(JSON);
+        }
+    }
+
+    @Test
+    void hitWritesIdentityBytesWhenGzipIsRefused() throws IOException {
+        populate();
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, handler)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(JSON);
+    }
+
+    @Test
+    void matchingIfNoneMatchGetsNotModified() throws IOException {
+        populate();
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, handler)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+    }
+
+    @Test
+    void refreshOfDataSetDropsEntry() throws IOException {
+        populate();
+        cache.onDataRefreshed(new DataRefreshedEvent(DATA_SET));
+
+        assertThat(interceptor.preHandle(get(), new MockHttpServletResponse(), handler)).isTrue();
+    }
+
+    @Test
+    void responseRenderedBeforeRefreshIsNotStored() throws IOException {
+        MockHttpServletRequest request = get();
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        cache.onDataRefreshed(new DataRefreshedEvent(DATA_SET));
+        store(request);
+
+        assertThat(interceptor.preHandle(get(), new MockHttpServletResponse(), handler)).isTrue();
+    }
+
+    @Test
+    void queryStringDoesNotCreateEntries() throws IOException {
+        populate();
+        MockHttpServletRequest request = get();
+        request.setQueryString("x=1");
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler))
+                .isFalse();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void pathVariablesAreSeparateEntries() throws IOException {
+        populate(get());
+        MockHttpServletRequest iss = craft("ISS");
+        populate(iss);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(interceptor.preHandle(craft("ISS"), new MockHttpServletResponse(), handler))
+                .isFalse();
+        assertThat(interceptor.preHandle(craft("Tiangong"), new MockHttpServletResponse(), handler))
+                .isTrue();
+    }
+
+    @Test
+    void fullCacheServesWithoutStoring() throws IOException {
+        useCache(Duration.ofSeconds(30), 1);
+        populate(craft("ISS"));
+        populate(craft("Tiangong"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(interceptor.preHandle(craft("ISS"), new MockHttpServletResponse(), handler))
+                .isFalse();
+        assertThat(interceptor.preHandle(craft("Tiangong"), new MockHttpServletResponse(), handler))
+                .isTrue();
+    }
+
+    @Test
+    void expiredEntriesAreSwept() throws IOException {
+        useCache(Duration.ZERO, 1);
+        populate(craft("ISS"));
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.evictExpired();
+        assertThat(cache.size()).isZero();
+
+        populate(craft("Tiangong"));
+        // a full cache sweeps expired entries before refusing a new one
+        populate(craft("Soyuz"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private void populate() throws IOException {
+        populate(get());
+    }
+
+    private void populate(MockHttpServletRequest request) throws IOException {
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        store(request);
+    }
+
+    private void useCache(Duration ttl, int maxEntries) {
+        cache = cache(ttl, maxEntries);
+        interceptor = new CachedResponseInterceptor(cache);
+    }
+
+    private void store(MockHttpServletRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(ETAG);
+        cache.put(
+                (ResponseByteCache.Pending)
+                        request.getAttribute(CachedResponseInterceptor.PENDING_ATTRIBUTE),
+                JSON,
+                MediaType.APPLICATION_JSON,
+                headers);
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/astro");
+    }
+
+    private static MockHttpServletRequest craft(String craft) {
+        var request = new MockHttpServletRequest("GET", "/api/astro/crafts/" + craft);
+        request.setAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("craft", craft));
+        return request;
+    }
+
+    private static ResponseByteCache cache(Duration ttl, int maxEntries) {
+        return new ResponseByteCache(
+                new ResponseCacheProperties(ttl, 1024, maxEntries), new SimpleMeterRegistry());
+    }
+
+    static class Controller {
+
+        @CachedResponse(DATA_SET)
+        public String astronauts() {
+            return "";
+        }
+    }
+}
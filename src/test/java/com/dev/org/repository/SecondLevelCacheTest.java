@@ -0,0 +1,104 @@
+package com.dev.org.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.config.SecondLevelCacheConfig;
+import com.dev.org.entity.AstronautEntity;
+import com.dev.org.entity.AstronautSnapshotEntity;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Each repository call runs in its own transaction and session, so the only thing that can spare
+ * a statement on the second read is the second-level cache.
+ */
+@DataJpaTest(
+        properties = {
+            "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+@ActiveProfiles("l2cache")
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired private AstronautRepository astronautRepository;
+    @Autowired private AstronautSnapshotRepository snapshotRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AstronautSnapshotEntity snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot =
+                snapshotRepository.save(
+                        new AstronautSnapshotEntity(Instant.parse("2026-01-01T00:00:00Z"), 2));
+        astronautRepository.saveAll(
+                List.of(
+                        new AstronautEntity("Jane", "ISS", snapshot),
+                        new AstronautEntity("Li", "Tiangong", snapshot)));
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        astronautRepository.deleteAllInBatch();
+        snapshotRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void repeatedEntityReadsIssueNoSql() {
+        assertThat(snapshotRepository.findById(snapshot.getId())).isPresent();
+        long afterFirstRead = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(snapshotRepository.findById(snapshot.getId())).isPresent();
+        }
+
+        assertThat(afterFirstRead).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstRead);
+        assertThat(statistics.getDomainDataRegionStatistics("astronaut-snapshot").getHitCount())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void repeatedCachedQueriesIssueNoSql() {
+        assertThat(astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc()).hasSize(2);
+        long afterFirstRead = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc())
+                    .extracting(AstronautEntity::getName)
+                    .containsExactly("Jane", "Li");
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(afterFirstRead);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(10);
+    }
+
+    @Test
+    void writesInvalidateCachedQueries() {
+        astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc();
+        astronautRepository.save(new AstronautEntity("Bob", "ISS", snapshot));
+        long afterWrite = statistics.getPrepareStatementCount();
+
+        assertThat(astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(afterWrite);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dev.org.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.dev.org.client.AstroClient;
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.common.exception.ClientError;
+import com.dev.org.common.response.Versioned;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.common.response.astro.CraftResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AstronautCraftServiceImplTest {
+
+    private volatile Versioned<AstronautsResponse> upstream;
+    private AstronautCraftServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        upstream =
+                versioned(
+                        "W/\"1\"",
+                        new Astronaut("Jane", "ISS"),
+                        new Astronaut("Li", "Tiangong"),
+                        new Astronaut("Bob", "ISS"));
+        AstroClient astroClient =
+                new AstroClient() {
+                    @Override
+                    public AstronautsResponse getAstronauts() {
+                        return upstream.value();
+                    }
+
+                    @Override
+                    public Versioned<AstronautsResponse> getVersionedAstronauts() {
+                        return upstream;
+                    }
+                };
+        service = new AstronautCraftServiceImpl(astroClient);
+    }
+
+    @Test
+    void groupsPeopleByCraftInUpstreamOrder() {
+        var crafts = service.getCrafts();
+
+        assertThat(crafts.etag()).isEqualTo("W/\"1\"");
+        assertThat(crafts.value().number()).isEqualTo(3);
+        assertThat(crafts.value().crafts())
+                .extracting(CraftResponse::craft, CraftResponse::number)
+                .containsExactly(tuple("ISS", 2), tuple("Tiangong", 1));
+    }
+
+    @Test
+    void looksUpCraftCaseInsensitively() {
+        assertThat(service.getCraft("iss").value().people())
+                .extracting(Astronaut::getName)
+                .containsExactly("Jane", "Bob");
+    }
+
+    @Test
+    void reusesIndexUntilDataVersionChanges() {
+        CraftResponse first = service.getCraft("ISS").value();
+        assertThat(service.getCraft("ISS").value()).isSameAs(first);
+
+        upstream = versioned("W/\"2\"", new Astronaut("Jane", "ISS"));
+
+        assertThat(service.getCraft("ISS").value().number()).isEqualTo(1);
+        assertThatThrownBy(() -> service.getCraft("Tiangong"))
+                .isInstanceOfSatisfying(
+                        ApplicationException.class,
+                        ex ->
+                                assertThat(ex.getApplicationError())
+                                        .isInstanceOf(ClientError.NotFound.class));
+    }
+
+    @Test
+    void treatsMissingUpstreamBodyAsNobodyAboard() {
+        upstream = new Versioned<>(null, "W/\"3\"");
+
+        var crafts = service.getCrafts();
+
+        assertThat(crafts.etag()).isEqualTo("W/\"3\"");
+        assertThat(crafts.value().number()).isZero();
+        assertThat(crafts.value().crafts()).isEmpty();
+        assertThatThrownBy(() -> service.getCraft("ISS")).isInstanceOf(ApplicationException.class);
+    }
+
+    private static Versioned<AstronautsResponse> versioned(String etag, Astronaut... people) {
+        return new Versioned<>(
+                new AstronautsResponse(List.of(people), people.length, "success"), etag);
+    }
+}
@@ -0,0 +1,153 @@
+package com.dev.org.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.dev.org.common.exception.ApplicationException;
+import com.dev.org.common.response.astro.Astronaut;
+import com.dev.org.common.response.astro.AstronautSnapshotResponse;
+import com.dev.org.common.response.astro.AstronautsResponse;
+import com.dev.org.entity.AstronautEntity;
+import com.dev.org.entity.AstronautSnapshotEntity;
+import com.dev.org.repository.AstronautRepository;
+import com.dev.org.repository.AstronautSnapshotRepository;
+import com.dev.org.service.AstronautSnapshotService.SnapshotDiff;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/** Runs against the Flyway schema, which Hibernate then validates against the entities. */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(AstronautSnapshotServiceImpl.class)
+class AstronautSnapshotServiceImplTest {
+
+    @Autowired private AstronautSnapshotServiceImpl service;
+    @Autowired private AstronautRepository astronautRepository;
+    @Autowired private AstronautSnapshotRepository snapshotRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    @Test
+    void firstRunRecordsEveryone() {
+        SnapshotDiff diff = service.record(response("Jane:ISS", "Li:Tiangong"));
+        entityManager.flush();
+
+        assertThat(diff).isEqualTo(new SnapshotDiff(2, 0));
+        assertThat(snapshotRepository.count()).isEqualTo(1);
+        assertThat(astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc())
+                .extracting(AstronautEntity::getName, AstronautEntity::getCraft)
+                .containsExactly(tuple("Jane", "ISS"), tuple("Li", "Tiangong"));
+    }
+
+    @Test
+    void unchangedFeedWritesNothing() {
+        service.record(response("Jane:ISS", "Li:Tiangong"));
+        entityManager.flush();
+
+        SnapshotDiff diff = service.record(response("Li:Tiangong", "Jane:ISS"));
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(snapshotRepository.count()).isEqualTo(1);
+        assertThat(astronautRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void missingUpstreamBodyWritesNothing() {
+        service.record(response("Jane:ISS"));
+        entityManager.flush();
+
+        assertThat(service.record(null).isEmpty()).isTrue();
+        assertThat(snapshotRepository.count()).isEqualTo(1);
+        assertThat(astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc()).hasSize(1);
+    }
+
+    @Test
+    void recordsOnlyJoinsAndLeaves() {
+        service.record(response("Jane:ISS", "Li:Tiangong"));
+        entityManager.flush();
+
+        SnapshotDiff diff = service.record(response("Jane:ISS", "Bob:ISS"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(diff).isEqualTo(new SnapshotDiff(1, 1));
+        assertThat(snapshotRepository.count()).isEqualTo(2);
+        assertThat(astronautRepository.count()).isEqualTo(3);
+        assertThat(astronautRepository.findByLeftSnapshotIsNullOrderByIdAsc())
+                .extracting(AstronautEntity::getName)
+                .containsExactly("Jane", "Bob");
+    }
+
+    @Test
+    void sameNameOnAnotherCraftIsANewStay() {
+        service.record(response("Jane:ISS"));
+        entityManager.flush();
+
+        assertThat(service.record(response("Jane:Tiangong"))).isEqualTo(new SnapshotDiff(1, 1));
+    }
+
+    @Test
+    void rebuildsCurrentResponseFromStoredSnapshot() {
+        assertThat(service.currentAstronauts()).isEmpty();
+
+        service.record(response("Jane:ISS", "Li:Tiangong"));
+        entityManager.flush();
+
+        assertThat(service.currentAstronauts())
+                .hasValueSatisfying(
+                        stored -> {
+                            assertThat(stored.getNumber()).isEqualTo(2);
+                            assertThat(stored.getPeople())
+                                    .containsExactly(
+                                            new Astronaut("Jane", "ISS"),
+                                            new Astronaut("Li", "Tiangong"));
+                        });
+    }
+
+    @Test
+    void pagesHistoryNewestFirstByCursor() {
+        Instant base = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            // two snapshots per timestamp, so the id has to break ties
+            entityManager.persist(new AstronautSnapshotEntity(base.plusSeconds(i / 2), i));
+        }
+        entityManager.flush();
+
+        List<Integer> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<AstronautSnapshotResponse> page = new ArrayList<>();
+            cursor = service.streamHistory(cursor, 2, page::add);
+            page.forEach(snapshot -> seen.add(snapshot.numberOfPeople()));
+            pageSizes.add(page.size());
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(4, 3, 2, 1, 0);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        List<AstronautSnapshotResponse> streamed = new ArrayList<>();
+
+        assertThatThrownBy(() -> service.streamHistory("not-a-cursor", 10, streamed::add))
+                .isInstanceOf(ApplicationException.class);
+        assertThat(streamed).isEmpty();
+    }
+
+    private static AstronautsResponse response(String... people) {
+        List<Astronaut> astronauts =
+                Arrays.stream(people)
+                        .map(person -> person.split(":"))
+                        .map(parts -> new Astronaut(parts[0], parts[1]))
+                        .toList();
+        return new AstronautsResponse(astronauts, astronauts.size(), "success");
+    }
+}
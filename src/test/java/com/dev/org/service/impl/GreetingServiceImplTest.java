@@ -0,0 +1,65 @@
+package com.dev.org.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dev.org.common.dto.HelloResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class GreetingServiceImplTest {
+
+    private final StepClock clock = new StepClock(Instant.parse("2025-01-01T12:00:00.123Z"));
+    private final GreetingServiceImpl greetingService = new GreetingServiceImpl(clock);
+
+    @Test
+    void greetsByName() {
+        HelloResponse response = greetingService.greet("Jane");
+
+        assertThat(response.message()).isEqualTo("Hello, Jane!");
+        assertThat(response.name()).isEqualTo("Jane");
+        assertThat(response.timestamp()).isEqualTo("2025-01-01T12:00:00.123Z");
+    }
+
+    @Test
+    void sharesTimestampWithinMillisecond() {
+        String first = greetingService.greet("a").timestamp();
+        String second = greetingService.greet("b").timestamp();
+        clock.millis += 1;
+        String third = greetingService.greet("c").timestamp();
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isEqualTo("2025-01-01T12:00:00.124Z");
+    }
+
+    private static final class StepClock extends Clock {
+
+        private long millis;
+
+        StepClock(Instant start) {
+            this.millis = start.toEpochMilli();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
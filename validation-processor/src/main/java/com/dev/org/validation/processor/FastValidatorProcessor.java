@@ -0,0 +1,134 @@
+package com.dev.org.validation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code <Record>FastValidator} next to every top-level record in the configured
+ * packages whose components carry Jakarta Bean Validation constraints.
+ *
+ * <p>The generated class implements {@code com.dev.org.common.validation.FastValidator} with one
+ * {@code if} per constraint, in component order, returning the first violation. A record using a
+ * constraint or attribute this processor does not translate gets no validator and a warning; it
+ * keeps being validated by Bean Validation alone.
+ *
+ * <p>Packages are set with {@code -Afastvalidator.packages=a.b,c.d} and default to {@value
+ * #DEFAULT_PACKAGES}; subpackages are included.
+ */
+@SupportedAnnotationTypes("jakarta.validation.constraints.*")
+@SupportedOptions(FastValidatorProcessor.PACKAGES_OPTION)
+public class FastValidatorProcessor extends AbstractProcessor {
+
+    static final String PACKAGES_OPTION = "fastvalidator.packages";
+    static final String DEFAULT_PACKAGES = "com.dev.org.common.dto";
+    static final String SUFFIX = "FastValidator";
+
+    private final Set<String> generated = new HashSet<>();
+    private List<String> packages;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        String option = processingEnv.getOptions().getOrDefault(PACKAGES_OPTION, DEFAULT_PACKAGES);
+        packages = Arrays.stream(option.split(",")).map(String::trim).toList();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> records = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element annotated : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement record = enclosingRecord(annotated);
+                if (record != null && inConfiguredPackage(record)) {
+                    records.add(record);
+                }
+            }
+        }
+        for (TypeElement record : records) {
+            if (generated.add(record.getQualifiedName().toString())) {
+                generate(record);
+            }
+        }
+        // constraint annotations stay visible to Bean Validation and other processors
+        return false;
+    }
+
+    private void generate(TypeElement record) {
+        if (record.getNestingKind() != NestingKind.TOP_LEVEL) {
+            warn(record, "only top-level records get a fast validator");
+            return;
+        }
+        ValidatorSource source = new ValidatorSource(processingEnv, record);
+        if (!source.unsupported().isEmpty()) {
+            source.unsupported().forEach(reason -> warn(record, reason));
+            return;
+        }
+        String name = record.getQualifiedName() + SUFFIX;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, record);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.render());
+            }
+        } catch (IOException ex) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "cannot write " + name + ": " + ex.getMessage(),
+                            record);
+        }
+    }
+
+    private static TypeElement enclosingRecord(Element element) {
+        for (Element current = element; current != null; current = current.getEnclosingElement()) {
+            if (current.getKind() == ElementKind.RECORD) {
+                return (TypeElement) current;
+            }
+            if (current.getKind() == ElementKind.PACKAGE) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private boolean inConfiguredPackage(TypeElement record) {
+        String name =
+                processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        return packages.stream()
+                .anyMatch(
+                        configured -> name.equals(configured) || name.startsWith(configured + "."));
+    }
+
+    private void warn(TypeElement record, String reason) {
+        processingEnv
+                .getMessager()
+                .printMessage(
+                        Diagnostic.Kind.WARNING,
+                        record.getSimpleName()
+                                + " is validated by Bean Validation only: "
+                                + reason,
+                        record);
+    }
+}
@@ -0,0 +1,378 @@
+package com.dev.org.validation.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Source of the fast validator of one record: one {@code if} per supported constraint, each
+ * returning a violation map built once in a static field.
+ *
+ * <p>Messages are the English defaults of Hibernate Validator, with the constraint attributes
+ * filled in, or the literal {@code message} attribute. Anything that would change the result
+ * compared to Bean Validation, such as groups, message keys, cascading or container element
+ * constraints, is reported through {@link #unsupported()} instead of being translated.
+ */
+final class ValidatorSource {
+
+    private static final String CONSTRAINTS = "jakarta.validation.constraints.";
+    private static final String DEFAULT_MESSAGE = "{" + CONSTRAINTS;
+    private static final String VALID = "jakarta.validation.Valid";
+
+    /** How a component type is measured and compared. */
+    private enum Shape {
+        STRING,
+        CHAR_SEQUENCE,
+        COLLECTION,
+        ARRAY,
+        INTEGRAL,
+        BOXED_INTEGRAL,
+        FLOATING,
+        BOXED_FLOATING,
+        OTHER
+    }
+
+    /** A condition that is true when the constraint is violated, and its default message. */
+    private record Check(String condition, String message) {
+
+        static final Check NONE = new Check("false", "");
+    }
+
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement record;
+    private final List<String> violations = new ArrayList<>();
+    private final List<String> patterns = new ArrayList<>();
+    private final List<String> checks = new ArrayList<>();
+    private final List<String> unsupported = new ArrayList<>();
+
+    ValidatorSource(ProcessingEnvironment env, TypeElement record) {
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+        this.record = record;
+        if (!record.getTypeParameters().isEmpty()) {
+            unsupported.add("generic records are not supported");
+            return;
+        }
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            if (hasTypeUseConstraint(component.asType())) {
+                unsupported.add(component.getSimpleName() + " has container element constraints");
+            }
+            for (AnnotationMirror mirror : field(component).getAnnotationMirrors()) {
+                String annotation = qualifiedName(mirror);
+                if (annotation.equals(VALID)) {
+                    unsupported.add(component.getSimpleName() + " is validated in cascade");
+                } else if (annotation.startsWith(CONSTRAINTS)) {
+                    translate(component, annotation.substring(CONSTRAINTS.length()), mirror);
+                }
+            }
+        }
+    }
+
+    /** Returns why the record cannot get a fast validator; empty if it can. */
+    List<String> unsupported() {
+        return unsupported;
+    }
+
+    String render() {
+        String recordName = record.getSimpleName().toString();
+        String className = recordName + FastValidatorProcessor.SUFFIX;
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(elements.getPackageOf(record).getQualifiedName());
+        out.append(";\n\n");
+        out.append("import com.dev.org.common.validation.FastValidator;\n");
+        out.append("import java.util.Map;\n");
+        if (!patterns.isEmpty()) {
+            out.append("import java.util.regex.Pattern;\n");
+        }
+        out.append("import javax.annotation.processing.Generated;\n\n");
+        out.append("/** Fail-fast validator of {@link ").append(recordName);
+        out.append("}, generated from its constraint annotations. */\n");
+        out.append("@Generated(\"").append(FastValidatorProcessor.class.getName()).append("\")\n");
+        out.append("public final class ").append(className);
+        out.append(" implements FastValidator<").append(recordName).append("> {\n\n");
+        for (int i = 0; i < violations.size(); i++) {
+            out.append("    private static final Map<String, String> VIOLATION_").append(i);
+            out.append(" =\n            ").append(violations.get(i)).append(";\n");
+        }
+        for (int i = 0; i < patterns.size(); i++) {
+            out.append("    private static final Pattern PATTERN_").append(i);
+            out.append(" =\n            ").append(patterns.get(i)).append(";\n");
+        }
+        out.append("\n    public static final ").append(className).append(" INSTANCE = new ");
+        out.append(className).append("();\n\n");
+        out.append("    private ").append(className).append("() {}\n\n");
+        out.append("    @Override\n");
+        out.append("    public Map<String, String> firstViolation(").append(recordName);
+        out.append(" value) {\n");
+        for (int i = 0; i < checks.size(); i++) {
+            out.append("        if (").append(checks.get(i)).append(") {\n");
+            out.append("            return VIOLATION_").append(i).append(";\n");
+            out.append("        }\n");
+        }
+        out.append("        return Map.of();\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private void translate(
+            RecordComponentElement component, String constraint, AnnotationMirror mirror) {
+        String name = component.getSimpleName().toString();
+        Map<String, Object> attributes = attributes(mirror);
+        if (!((List<?>) attributes.get("groups")).isEmpty()) {
+            unsupported.add("@" + constraint + " on " + name + " uses validation groups");
+            return;
+        }
+        Check check = check(constraint, "value." + name + "()", component.asType(), attributes);
+        if (check == null) {
+            unsupported.add("@" + constraint + " on " + name + " is not translated");
+        } else if (check != Check.NONE) {
+            add(name, check, (String) attributes.get("message"));
+        }
+    }
+
+    /**
+     * Translates one constraint.
+     *
+     * @return the check, {@link Check#NONE} if the constraint always holds, or null if it is not
+     *     supported on this shape
+     */
+    private Check check(
+            String constraint, String value, TypeMirror type, Map<String, Object> attributes) {
+        Shape shape = shape(type);
+        String length = length(value, shape);
+        return switch (constraint) {
+            // a primitive is never null
+            case "NotNull" ->
+                    type.getKind().isPrimitive()
+                            ? Check.NONE
+                            : new Check(value + " == null", "must not be null");
+            case "NotBlank" ->
+                    switch (shape) {
+                        case STRING ->
+                                new Check(
+                                        value + " == null || " + value + ".trim().isEmpty()",
+                                        "must not be blank");
+                        case CHAR_SEQUENCE ->
+                                new Check(
+                                        value + " == null || " + value
+                                                + ".toString().trim().isEmpty()",
+                                        "must not be blank");
+                        default -> null;
+                    };
+            case "NotEmpty" ->
+                    length == null
+                            ? null
+                            : new Check(
+                                    value + " == null || " + length + " == 0",
+                                    "must not be empty");
+            case "Size" -> length == null ? null : size(value, length, attributes);
+            case "Min" ->
+                    bound(value, shape, " < ", attributes, "must be greater than or equal to ");
+            case "Max" -> bound(value, shape, " > ", attributes, "must be less than or equal to ");
+            case "Positive" -> sign(value, shape, " <= 0", "must be greater than 0");
+            case "PositiveOrZero" ->
+                    sign(value, shape, " < 0", "must be greater than or equal to 0");
+            case "Negative" -> sign(value, shape, " >= 0", "must be less than 0");
+            case "NegativeOrZero" -> sign(value, shape, " > 0", "must be less than or equal to 0");
+            case "Pattern" ->
+                    shape == Shape.STRING || shape == Shape.CHAR_SEQUENCE
+                            ? pattern(value, attributes)
+                            : null;
+            default -> null;
+        };
+    }
+
+    private static Check size(String value, String length, Map<String, Object> attributes) {
+        int min = (Integer) attributes.get("min");
+        int max = (Integer) attributes.get("max");
+        List<String> violated = new ArrayList<>(2);
+        if (min > 0) {
+            violated.add(length + " < " + min);
+        }
+        if (max < Integer.MAX_VALUE) {
+            violated.add(length + " > " + max);
+        }
+        if (violated.isEmpty()) {
+            return Check.NONE;
+        }
+        String outOfRange =
+                violated.size() == 1 ? violated.get(0) : "(" + String.join(" || ", violated) + ")";
+        return new Check(
+                value + " != null && " + outOfRange,
+                "size must be between " + min + " and " + max);
+    }
+
+    private static Check bound(
+            String value,
+            Shape shape,
+            String operator,
+            Map<String, Object> attributes,
+            String message) {
+        if (shape != Shape.INTEGRAL && shape != Shape.BOXED_INTEGRAL) {
+            return null;
+        }
+        long bound = (Long) attributes.get("value");
+        return new Check(nullSafe(value, shape, operator + bound + "L"), message + bound);
+    }
+
+    private static Check sign(String value, Shape shape, String violated, String message) {
+        return switch (shape) {
+            case INTEGRAL, BOXED_INTEGRAL, FLOATING, BOXED_FLOATING ->
+                    new Check(nullSafe(value, shape, violated), message);
+            default -> null;
+        };
+    }
+
+    private Check pattern(String value, Map<String, Object> attributes) {
+        String regexp = (String) attributes.get("regexp");
+        patterns.add(compile(regexp, (List<?>) attributes.get("flags")));
+        return new Check(
+                value + " != null && !PATTERN_" + (patterns.size() - 1) + ".matcher(" + value
+                        + ").matches()",
+                "must match \"" + regexp + "\"");
+    }
+
+    private void add(String name, Check check, String message) {
+        String text = check.message();
+        if (!message.startsWith(DEFAULT_MESSAGE)) {
+            if (message.indexOf('{') >= 0 || message.indexOf('$') >= 0) {
+                unsupported.add(name + " has an interpolated message");
+                return;
+            }
+            text = message;
+        }
+        checks.add(check.condition());
+        violations.add(
+                "Map.of("
+                        + elements.getConstantExpression(name)
+                        + ", "
+                        + elements.getConstantExpression(text)
+                        + ")");
+    }
+
+    private static String nullSafe(String value, Shape shape, String comparison) {
+        return shape == Shape.BOXED_INTEGRAL || shape == Shape.BOXED_FLOATING
+                ? value + " != null && " + value + comparison
+                : value + comparison;
+    }
+
+    private static String length(String value, Shape shape) {
+        return switch (shape) {
+            case STRING, CHAR_SEQUENCE -> value + ".length()";
+            case COLLECTION -> value + ".size()";
+            case ARRAY -> value + ".length";
+            default -> null;
+        };
+    }
+
+    private String compile(String regexp, List<?> flags) {
+        String pattern = "Pattern.compile(" + elements.getConstantExpression(regexp);
+        if (flags.isEmpty()) {
+            return pattern + ")";
+        }
+        return pattern
+                + ", "
+                + flags.stream()
+                        .map(flag -> "Pattern." + ((AnnotationValue) flag).getValue())
+                        .collect(Collectors.joining(" | "))
+                + ")";
+    }
+
+    private Shape shape(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind == TypeKind.ARRAY) {
+            return Shape.ARRAY;
+        }
+        if (kind.isPrimitive()) {
+            return kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE
+                    ? Shape.FLOATING
+                    : kind == TypeKind.BOOLEAN || kind == TypeKind.CHAR
+                            ? Shape.OTHER
+                            : Shape.INTEGRAL;
+        }
+        if (kind != TypeKind.DECLARED) {
+            return Shape.OTHER;
+        }
+        TypeMirror erased = types.erasure(type);
+        if (types.isSameType(erased, declared("java.lang.String"))) {
+            return Shape.STRING;
+        }
+        if (types.isAssignable(erased, declared("java.lang.CharSequence"))) {
+            return Shape.CHAR_SEQUENCE;
+        }
+        if (types.isAssignable(erased, declared("java.util.Collection"))
+                || types.isAssignable(erased, declared("java.util.Map"))) {
+            return Shape.COLLECTION;
+        }
+        try {
+            Shape unboxed = shape(types.unboxedType(type));
+            if (unboxed == Shape.INTEGRAL) {
+                return Shape.BOXED_INTEGRAL;
+            }
+            return unboxed == Shape.FLOATING ? Shape.BOXED_FLOATING : Shape.OTHER;
+        } catch (IllegalArgumentException ex) {
+            return Shape.OTHER;
+        }
+    }
+
+    private TypeMirror declared(String name) {
+        return types.erasure(elements.getTypeElement(name).asType());
+    }
+
+    private static boolean hasTypeUseConstraint(TypeMirror type) {
+        if (type instanceof DeclaredType declared) {
+            for (TypeMirror argument : declared.getTypeArguments()) {
+                boolean constrained =
+                        argument.getAnnotationMirrors().stream()
+                                .map(ValidatorSource::qualifiedName)
+                                .anyMatch(
+                                        name -> name.startsWith(CONSTRAINTS) || name.equals(VALID));
+                if (constrained || hasTypeUseConstraint(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Returns the private field of a component, which carries its field-targeted annotations. */
+    private Element field(RecordComponentElement component) {
+        for (VariableElement field : ElementFilter.fieldsIn(record.getEnclosedElements())) {
+            if (field.getSimpleName().equals(component.getSimpleName())) {
+                return field;
+            }
+        }
+        return component;
+    }
+
+    private Map<String, Object> attributes(AnnotationMirror mirror) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            attributes.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return attributes;
+    }
+
+    private static String qualifiedName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+}
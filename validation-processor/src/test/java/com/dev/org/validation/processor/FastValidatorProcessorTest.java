@@ -0,0 +1,314 @@
+package com.dev.org.validation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compiles small records with the processor and runs the validators it generates. The sources
+ * are compiled against a stand-in for {@code FastValidator}, since the real one lives in the
+ * application.
+ */
+class FastValidatorProcessorTest {
+
+    private static final String FAST_VALIDATOR =
+            """
+            package com.dev.org.common.validation;
+
+            public interface FastValidator<T> {
+                java.util.Map<String, String> firstViolation(T value);
+            }
+            """;
+
+    @TempDir Path output;
+
+    @Test
+    void translatesSizeOfStringsCollectionsAndArrays() throws Exception {
+        Compilation compilation =
+                compile(
+                        dto(
+                                "Crew",
+                                "@Size(min = 2, max = 3) String code,"
+                                        + " @Size(max = 2) java.util.List<String> names,"
+                                        + " @Size(min = 1) int[] seats"));
+
+        assertThat(compilation.warnings()).isEmpty();
+        assertThat(compilation.firstViolation("Crew", "ab", List.of(), new int[1])).isEmpty();
+        assertThat(compilation.firstViolation("Crew", null, null, null)).isEmpty();
+        assertThat(compilation.firstViolation("Crew", "abcd", List.of(), new int[1]))
+                .containsExactly(Map.entry("code", "size must be between 2 and 3"));
+        assertThat(compilation.firstViolation("Crew", "ab", List.of("a", "b", "c"), new int[1]))
+                .containsExactly(Map.entry("names", "size must be between 0 and 2"));
+        assertThat(compilation.firstViolation("Crew", "ab", List.of(), new int[0]))
+                .containsExactly(Map.entry("seats", "size must be between 1 and 2147483647"));
+    }
+
+    @Test
+    void translatesMinAndMaxOfIntegralTypes() throws Exception {
+        Compilation compilation =
+                compile(dto("Window", "@Min(1) @Max(10) int hours, @Max(-1) Long offset"));
+
+        assertThat(compilation.firstViolation("Window", 1, -1L)).isEmpty();
+        assertThat(compilation.firstViolation("Window", 10, null)).isEmpty();
+        assertThat(compilation.firstViolation("Window", 0, -1L))
+                .containsExactly(Map.entry("hours", "must be greater than or equal to 1"));
+        assertThat(compilation.firstViolation("Window", 11, -1L))
+                .containsExactly(Map.entry("hours", "must be less than or equal to 10"));
+        assertThat(compilation.firstViolation("Window", 5, 0L))
+                .containsExactly(Map.entry("offset", "must be less than or equal to -1"));
+    }
+
+    @Test
+    void translatesPatternWithFlags() throws Exception {
+        Compilation compilation =
+                compile(
+                        dto(
+                                "Callsign",
+                                "@Pattern(regexp = \"[A-Z]{3}\") String code,"
+                                        + " @Pattern(regexp = \"[a-z]+\","
+                                        + " flags = Pattern.Flag.CASE_INSENSITIVE) String name"));
+
+        assertThat(compilation.firstViolation("Callsign", "ISS", "Zarya")).isEmpty();
+        assertThat(compilation.firstViolation("Callsign", null, null)).isEmpty();
+        assertThat(compilation.firstViolation("Callsign", "iss", "Zarya"))
+                .containsExactly(Map.entry("code", "must match \"[A-Z]{3}\""));
+        assertThat(compilation.firstViolation("Callsign", "ISS", "Zarya-1"))
+                .containsExactly(Map.entry("name", "must match \"[a-z]+\""));
+    }
+
+    @Test
+    void translatesSignConstraintsOfPrimitiveAndBoxedNumbers() throws Exception {
+        Compilation compilation =
+                compile(
+                        dto(
+                                "Burn",
+                                "@Positive int thrust, @PositiveOrZero Double fuel,"
+                                        + " @Negative long drift, @NegativeOrZero Short trim"));
+
+        assertThat(compilation.firstViolation("Burn", 1, 0.0, -1L, (short) 0)).isEmpty();
+        assertThat(compilation.firstViolation("Burn", 1, null, -1L, null)).isEmpty();
+        assertThat(compilation.firstViolation("Burn", 0, 0.0, -1L, (short) 0))
+                .containsExactly(Map.entry("thrust", "must be greater than 0"));
+        assertThat(compilation.firstViolation("Burn", 1, -0.5, -1L, (short) 0))
+                .containsExactly(Map.entry("fuel", "must be greater than or equal to 0"));
+        assertThat(compilation.firstViolation("Burn", 1, 0.0, 0L, (short) 0))
+                .containsExactly(Map.entry("drift", "must be less than 0"));
+        assertThat(compilation.firstViolation("Burn", 1, 0.0, -1L, (short) 1))
+                .containsExactly(Map.entry("trim", "must be less than or equal to 0"));
+    }
+
+    @Test
+    void usesLiteralMessage() throws Exception {
+        Compilation compilation =
+                compile(dto("Orbit", "@Min(value = 160, message = \"too low\") int altitude"));
+
+        assertThat(compilation.firstViolation("Orbit", 100))
+                .containsExactly(Map.entry("altitude", "too low"));
+    }
+
+    @Test
+    void warnsAndGeneratesNothingForUnsupportedConstraint() throws Exception {
+        Compilation compilation =
+                compile(dto("Contact", "@NotBlank String name, @Email String mail"));
+
+        assertThat(compilation.warnings())
+                .containsExactly(
+                        "Contact is validated by Bean Validation only:"
+                                + " @Email on mail is not translated");
+        assertThat(compilation.generated("Contact")).isFalse();
+    }
+
+    @Test
+    void warnsForEveryUnsupportedUse() throws Exception {
+        Compilation compilation =
+                compile(
+                        dto(
+                                "Mission",
+                                "@Min(value = 1, groups = Mission.class) int crew,"
+                                        + " @Valid Mission backup,"
+                                        + " @NotNull(message = \"{mission.name}\") String name,"
+                                        + " @Min(1) double budget"));
+
+        assertThat(compilation.warnings())
+                .containsExactly(
+                        "Mission is validated by Bean Validation only:"
+                                + " @Min on crew uses validation groups",
+                        "Mission is validated by Bean Validation only:"
+                                + " backup is validated in cascade",
+                        "Mission is validated by Bean Validation only:"
+                                + " name has an interpolated message",
+                        "Mission is validated by Bean Validation only:"
+                                + " @Min on budget is not translated");
+        assertThat(compilation.generated("Mission")).isFalse();
+    }
+
+    @Test
+    void warnsForNestedRecord() throws Exception {
+        Compilation compilation =
+                compile(
+                        source(
+                                "com.dev.org.common.dto.Outer",
+                                """
+                                package com.dev.org.common.dto;
+
+                                public class Outer {
+                                    public record Inner(
+                                            @jakarta.validation.constraints.NotNull String id) {}
+                                }
+                                """));
+
+        assertThat(compilation.warnings())
+                .containsExactly(
+                        "Inner is validated by Bean Validation only:"
+                                + " only top-level records get a fast validator");
+    }
+
+    @Test
+    void ignoresRecordsOutsideConfiguredPackages() throws Exception {
+        JavaFileObject record =
+                source(
+                        "com.dev.org.other.Probe",
+                        """
+                        package com.dev.org.other;
+
+                        public record Probe(@jakarta.validation.constraints.NotNull String id) {}
+                        """);
+
+        assertThat(compile(record).generated("com.dev.org.other.Probe")).isFalse();
+        assertThat(
+                        compile(List.of("-Afastvalidator.packages=com.dev.org.other"), record)
+                                .firstViolation("com.dev.org.other.Probe", (Object) null))
+                .containsExactly(Map.entry("id", "must not be null"));
+    }
+
+    private Compilation compile(JavaFileObject record) throws IOException {
+        return compile(List.of(), record);
+    }
+
+    private Compilation compile(List<String> options, JavaFileObject record) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path classes = Files.createTempDirectory(output, "classes");
+        List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(
+                List.of(
+                        "-classpath",
+                        System.getProperty("java.class.path"),
+                        "-d",
+                        classes.toString(),
+                        "-s",
+                        classes.toString()));
+        try (StandardJavaFileManager files =
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            JavaCompiler.CompilationTask task =
+                    compiler.getTask(
+                            null,
+                            files,
+                            diagnostics,
+                            arguments,
+                            null,
+                            List.of(
+                                    source(
+                                            "com.dev.org.common.validation.FastValidator",
+                                            FAST_VALIDATOR),
+                                    record));
+            task.setProcessors(List.of(new FastValidatorProcessor()));
+            assertThat(task.call()).as("compilation: %s", diagnostics.getDiagnostics()).isTrue();
+        }
+        return new Compilation(classes, diagnostics.getDiagnostics());
+    }
+
+    private static JavaFileObject dto(String name, String components) {
+        return source(
+                "com.dev.org.common.dto." + name,
+                "package com.dev.org.common.dto;\n\n"
+                        + "import jakarta.validation.Valid;\n"
+                        + "import jakarta.validation.constraints.*;\n\n"
+                        + "public record "
+                        + name
+                        + "("
+                        + components
+                        + ") {}\n");
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new StringSource(className, code);
+    }
+
+    /** A compilation unit held in memory. */
+    private static final class StringSource extends SimpleJavaFileObject {
+
+        private final String code;
+
+        StringSource(String className, String code) {
+            super(
+                    URI.create("string:///" + className.replace('.', '/') + ".java"),
+                    JavaFileObject.Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    /** Output of one compilation. */
+    private record Compilation(
+            Path classes, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        List<String> warnings() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                    .toList();
+        }
+
+        boolean generated(String record) {
+            return Files.exists(
+                    classes.resolve(
+                            qualified(record).replace('.', '/')
+                                    + FastValidatorProcessor.SUFFIX
+                                    + ".java"));
+        }
+
+        /** Builds the record from {@code components} and runs its generated validator. */
+        @SuppressWarnings("unchecked")
+        Map<String, String> firstViolation(String record, Object... components)
+                throws ReflectiveOperationException, IOException {
+            try (URLClassLoader loader =
+                    new URLClassLoader(
+                            new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())) {
+                Class<?> type = loader.loadClass(qualified(record));
+                Object value = type.getDeclaredConstructors()[0].newInstance(components);
+                Class<?> validator = loader.loadClass(type.getName() + FastValidatorProcessor.SUFFIX);
+                Method firstViolation = validator.getMethod("firstViolation", type);
+                return (Map<String, String>)
+                        firstViolation.invoke(validator.getField("INSTANCE").get(null), value);
+            }
+        }
+
+        private static String qualified(String record) {
+            return record.contains(".") ? record : "com.dev.org.common.dto." + record;
+        }
+    }
+}